@@ -0,0 +1,93 @@
+package com.hrservice.hrservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hrservice.hrservice.dto.LeaveRequestView;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Writing a list response with the ObjectMapper settings Spring Boot uses: the LeaveRequest entity
+// (with its leave type) versus the flat LeaveRequestView the list endpoints return
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaveRequestSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private ObjectWriter writer;
+    private List<LeaveRequest> entities;
+    private List<LeaveRequestView> views;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        List<LeaveType> leaveTypes = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            LeaveType leaveType = new LeaveType();
+            leaveType.setId(id);
+            leaveType.setName("Leave type " + id);
+            leaveType.setDescription("Description of leave type " + id);
+            leaveType.setMaxDaysPerYear(20);
+            leaveType.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+            leaveType.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+            leaveTypes.add(leaveType);
+        }
+
+        entities = new ArrayList<>(rows);
+        views = new ArrayList<>(rows);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            LeaveRequest leaveRequest = new LeaveRequest();
+            leaveRequest.setId((long) i + 1);
+            leaveRequest.setEmployeeId("EMP-" + (i % 50) + "-" + (i % 200));
+            leaveRequest.setDepartmentId((long) (i % 50));
+            leaveRequest.setLeaveType(leaveTypes.get(i % leaveTypes.size()));
+            leaveRequest.setStartDate(start.plusDays(i % 365));
+            leaveRequest.setEndDate(start.plusDays(i % 365 + 2));
+            leaveRequest.setReason("Family event");
+            leaveRequest.setStatus(LeaveRequest.Status.values()[i % LeaveRequest.Status.values().length]);
+            leaveRequest.setCreatedAt(LocalDateTime.of(2024, 12, 1, 9, 0).plusMinutes(i));
+            leaveRequest.setUpdatedAt(LocalDateTime.of(2024, 12, 1, 9, 0).plusMinutes(i));
+            entities.add(leaveRequest);
+            views.add(LeaveRequestView.from(leaveRequest));
+        }
+    }
+
+    @Benchmark
+    public void entities() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), entities);
+    }
+
+    @Benchmark
+    public void views() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), views);
+    }
+}
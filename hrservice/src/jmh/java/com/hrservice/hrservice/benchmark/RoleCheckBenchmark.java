@@ -0,0 +1,99 @@
+package com.hrservice.hrservice.benchmark;
+
+import com.hrservice.hrservice.annotation.RequiresRole;
+import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.security.RequiredRoleMasks;
+import com.hrservice.hrservice.security.RoleAuthorizationAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// RoleAuthorizationAspect.checkRole as it runs before every @RequiresRole endpoint, metrics included,
+// next to the string-matching check it replaced. The jmh profile runs with -prof gc, so
+// gc.alloc.rate.norm in the results shows the bytes allocated per check (0 for granted).
+// Thread-scoped: the security context is thread-local, so each worker sets up its own.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCheckBenchmark {
+
+    private RoleAuthorizationAspect aspect;
+    private RequiresRole hrOnly;
+    private RequiresRole anyRole;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        aspect = new RoleAuthorizationAspect(new RequiredRoleMasks(new DefaultListableBeanFactory()), new SimpleMeterRegistry());
+        hrOnly = Endpoints.class.getDeclaredMethod("hrOnly").getAnnotation(RequiresRole.class);
+        anyRole = Endpoints.class.getDeclaredMethod("anyRole").getAnnotation(RequiresRole.class);
+
+        UserInfo user = new UserInfo();
+        user.setEmployeeId("EMP-1-1");
+        user.setRole("employee");
+        user.setIsActive(true);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, "token", List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void granted() {
+        aspect.checkRole(null, anyRole);
+    }
+
+    // The check before role masks: lowercase both sides and stream the required roles
+    @Benchmark
+    public boolean grantedStringMatch() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserInfo userInfo = (UserInfo) authentication.getPrincipal();
+        String userRole = userInfo.getRole().toLowerCase();
+        return Arrays.stream(anyRole.value())
+                .anyMatch(role -> role.toLowerCase().equals(userRole));
+    }
+
+    @Benchmark
+    public Object denied() {
+        try {
+            aspect.checkRole(null, hrOnly);
+            return null;
+        } catch (SecurityException e) {
+            return e;
+        }
+    }
+
+    static class Endpoints {
+        @RequiresRole({"hr"})
+        void hrOnly() {
+        }
+
+        @RequiresRole({"employee", "hod", "hr"})
+        void anyRole() {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hrservice.hrservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrservice.hrservice.config.AuthServiceConfig;
+import com.hrservice.hrservice.config.JwtConfig;
+import com.hrservice.hrservice.config.RestTemplateConfig;
+import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.loadtest.AuthServiceStub;
+import com.hrservice.hrservice.security.JwtTokenVerifier;
+import com.hrservice.hrservice.service.AuthServiceClient;
+import com.hrservice.hrservice.service.AuthServiceGuard;
+import com.hrservice.hrservice.service.TokenValidationCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Resolving a bearer token: in-process JWT verification versus a loopback round trip to the
+// auth-service stub (no injected latency), uncached and through the token cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-of-at-least-256-bits-length";
+
+    private AuthServiceStub stub;
+    private CloseableHttpClient httpClient;
+    private JwtTokenVerifier verifier;
+    private AuthServiceClient uncachedClient;
+    private AuthServiceClient cachedClient;
+    private String jwt;
+    private String stubToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = new AuthServiceStub(0, 10);
+
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        verifier = new JwtTokenVerifier(jwtConfig);
+        jwt = Jwts.builder()
+                .subject("user-1")
+                .claims(Map.of("employeeId", "EMP-1-1", "email", "emp@example.com", "role", "employee",
+                        "departmentId", 1, "isActive", true))
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        stubToken = AuthServiceStub.token("employee", AuthServiceStub.employeeId(1, 1), 1);
+
+        AuthServiceConfig config = new AuthServiceConfig();
+        config.setUrl(stub.url());
+        RestTemplateConfig restTemplateConfig = new RestTemplateConfig(config);
+        PoolingHttpClientConnectionManager connectionManager = restTemplateConfig.authServiceConnectionManager();
+        httpClient = restTemplateConfig.authServiceHttpClient(connectionManager);
+
+        uncachedClient = client(config, restTemplateConfig, Duration.ZERO);
+        cachedClient = client(config, restTemplateConfig, Duration.ofMinutes(5));
+    }
+
+    private AuthServiceClient client(AuthServiceConfig config, RestTemplateConfig restTemplateConfig, Duration tokenTtl) {
+        AuthServiceConfig cacheConfig = new AuthServiceConfig();
+        cacheConfig.getTokenCache().setTtl(tokenTtl);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new AuthServiceClient(
+                config,
+                restTemplateConfig.restTemplate(httpClient),
+                new TokenValidationCache(cacheConfig, new ObjectMapper(), meterRegistry),
+                new AuthServiceGuard(config, meterRegistry));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public UserInfo localJwt() {
+        return verifier.verify(jwt);
+    }
+
+    @Benchmark
+    public UserInfo remoteStub() {
+        return uncachedClient.validateToken(stubToken);
+    }
+
+    @Benchmark
+    public UserInfo remoteStubCached() {
+        return cachedClient.validateToken(stubToken);
+    }
+}
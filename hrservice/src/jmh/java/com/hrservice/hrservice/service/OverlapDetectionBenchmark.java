@@ -0,0 +1,85 @@
+package com.hrservice.hrservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// In-memory overlap detection for one department calendar: the interval tree behind
+// LeaveCalendarIndex versus a linear scan of the same leaves. Lives in the service package
+// because IntervalTree is package-private.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverlapDetectionBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int leaves;
+
+    private IntervalTree tree;
+    private long[] starts;
+    private long[] ends;
+    private long[] queryStarts;
+    private long[] queryEnds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        long firstDay = LocalDate.of(2025, 1, 1).toEpochDay();
+        // Spread so that roughly half of the queries hit an existing leave
+        int span = leaves * 4;
+
+        tree = new IntervalTree();
+        starts = new long[leaves];
+        ends = new long[leaves];
+        for (int i = 0; i < leaves; i++) {
+            starts[i] = firstDay + random.nextInt(span);
+            ends[i] = starts[i] + random.nextInt(1, 10);
+            tree.insert(i + 1, starts[i], ends[i]);
+        }
+
+        queryStarts = new long[QUERIES];
+        queryEnds = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryStarts[i] = firstDay + random.nextInt(span);
+            queryEnds[i] = queryStarts[i] + random.nextInt(1, 10);
+        }
+    }
+
+    @Benchmark
+    public boolean intervalTree() {
+        int i = next++ & (QUERIES - 1);
+        return tree.overlaps(queryStarts[i], queryEnds[i], -1);
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        int q = next++ & (QUERIES - 1);
+        long start = queryStarts[q];
+        long end = queryEnds[q];
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] <= end && ends[i] >= start) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hrservice.hrservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// The in-memory half of findPendingForHod: keeping the pending requests whose employee is in the
+// HOD's department. findPendingForHod now filters by department_id in SQL; the membership check
+// remains for legacy rows without one. Compares the original List.contains filter with the
+// sorted Members array DepartmentMembershipCache serves, and a HashSet for reference.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PendingFilterBenchmark {
+
+    private static final int DEPARTMENTS = 50;
+
+    @Param({"1000", "10000", "100000"})
+    private int pending;
+
+    @Param({"20", "200"})
+    private int departmentSize;
+
+    private String[] pendingEmployeeIds;
+    private List<String> memberList;
+    private Set<String> memberSet;
+    private DepartmentMembershipCache.Members members;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pendingEmployeeIds = new String[pending];
+        for (int i = 0; i < pending; i++) {
+            pendingEmployeeIds[i] = "EMP-" + (i % DEPARTMENTS) + "-" + (i / DEPARTMENTS % departmentSize);
+        }
+
+        memberList = new ArrayList<>(departmentSize);
+        for (int n = 0; n < departmentSize; n++) {
+            memberList.add("EMP-7-" + n);
+        }
+        memberSet = new HashSet<>(memberList);
+        String[] sorted = memberList.toArray(String[]::new);
+        Arrays.sort(sorted);
+        members = new DepartmentMembershipCache.Members(sorted);
+    }
+
+    @Benchmark
+    public int listContains() {
+        int kept = 0;
+        for (String employeeId : pendingEmployeeIds) {
+            if (memberList.contains(employeeId)) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    @Benchmark
+    public int membersBinarySearch() {
+        int kept = 0;
+        for (String employeeId : pendingEmployeeIds) {
+            if (members.contains(employeeId)) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    @Benchmark
+    public int hashSet() {
+        int kept = 0;
+        for (String employeeId : pendingEmployeeIds) {
+            if (memberSet.contains(employeeId)) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+}
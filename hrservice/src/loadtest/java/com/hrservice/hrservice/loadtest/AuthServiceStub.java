@@ -0,0 +1,138 @@
+package com.hrservice.hrservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// In-process stand-in for the NestJS auth-service with a fixed latency per call.
+// Bearer tokens are "<role>:<employeeId>:<departmentId>", so the harness can mint users without
+// signing JWTs (hrservice must run with auth-service.jwt.local-verification=false).
+// Employees are "EMP-<departmentId>-<n>"; every department has employeesPerDepartment of them.
+public final class AuthServiceStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyMillis;
+    private final int employeesPerDepartment;
+
+    public AuthServiceStub(long latencyMillis, int employeesPerDepartment) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.employeesPerDepartment = employeesPerDepartment;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        // Each call sleeps for the injected latency, so handlers need one thread per in-flight call
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/auth/validate", this::validate);
+        server.createContext("/auth/users/department/", this::department);
+        server.createContext("/auth/users/employee/", this::employee);
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public static String token(String role, String employeeId, long departmentId) {
+        return role + ":" + employeeId + ":" + departmentId;
+    }
+
+    public static String employeeId(long departmentId, int n) {
+        return "EMP-" + departmentId + "-" + n;
+    }
+
+    private void validate(HttpExchange exchange) throws IOException {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        String[] parts = header != null && header.startsWith("Bearer ") ? header.substring(7).split(":") : new String[0];
+        if (parts.length != 3) {
+            respond(exchange, 401, Map.of("valid", false));
+            return;
+        }
+        respond(exchange, 200, Map.of("valid", true, "user", user(parts[1], parts[0], Long.parseLong(parts[2]))));
+    }
+
+    private void department(HttpExchange exchange) throws IOException {
+        respond(exchange, 200, members(Long.parseLong(lastSegment(exchange))));
+    }
+
+    private void employee(HttpExchange exchange) throws IOException {
+        String employeeId = lastSegment(exchange);
+        Long departmentId = departmentOf(employeeId);
+        if (departmentId == null) {
+            respond(exchange, 404, Map.of("message", "User not found"));
+            return;
+        }
+        respond(exchange, 200, user(employeeId, "employee", departmentId));
+    }
+
+    private List<Map<String, Object>> members(long departmentId) {
+        List<Map<String, Object>> users = new ArrayList<>(employeesPerDepartment);
+        for (int n = 0; n < employeesPerDepartment; n++) {
+            users.add(user(employeeId(departmentId, n), "employee", departmentId));
+        }
+        return users;
+    }
+
+    // Department of an "EMP-<departmentId>-<n>" ID, or null for an unknown user
+    private static Long departmentOf(String employeeId) {
+        String[] parts = employeeId.split("-");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> user(String employeeId, String role, long departmentId) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", employeeId);
+        user.put("employeeId", employeeId);
+        user.put("email", employeeId.toLowerCase() + "@example.com");
+        user.put("role", role);
+        user.put("departmentId", departmentId);
+        user.put("isActive", true);
+        return user;
+    }
+
+    private static String lastSegment(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,55 @@
+package com.hrservice.hrservice.loadtest;
+
+import com.hrservice.hrservice.HrserviceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Boots hrservice in-process on a random port against H2 (MySQL mode) and the auth-service stub
+public final class HrserviceHarness {
+
+    private HrserviceHarness() {
+    }
+
+    public static ConfigurableApplicationContext start(String authServiceUrl, boolean virtualThreads, Map<String, String> overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:hrservice-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.threads.virtual.enabled", Boolean.toString(virtualThreads));
+        properties.put("auth-service.url", authServiceUrl);
+        // Every request goes to the stub, so its latency is on the request path
+        properties.put("auth-service.jwt.local-verification", "false");
+        properties.put("auth-service.token-cache.ttl", "0s");
+        // Keep the outbound pool out of the way; the thread model is what is being compared
+        properties.put("auth-service.http.max-connections", "5000");
+        properties.put("auth-service.http.max-connections-per-route", "5000");
+        properties.put("auth-service.resilience.max-concurrent-calls", "5000");
+        // Injected stub latency is not a failure
+        properties.put("auth-service.resilience.slow-call-rate-threshold", "100");
+        properties.put("auth-service.resilience.deadline", "30s");
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(overrides);
+
+        // Command-line arguments, so they win over application.yml
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return new SpringApplicationBuilder(HrserviceApplication.class).run(args.toArray(String[]::new));
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,133 @@
+package com.hrservice.hrservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+// Closed-loop driver: each worker sends its next request as soon as the previous one completes.
+// Latencies recorded after the warm-up are reported as throughput and percentiles.
+public final class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public Result run(String name, int concurrency, Duration warmup, Duration duration, Supplier<HttpRequest> requests)
+            throws InterruptedException {
+        return runMix(name, concurrency, warmup, duration, () -> new Call(name, requests.get())).get(0);
+    }
+
+    // Each call carries a label (e.g. "hod GET /pending"); the first result covers all calls,
+    // followed by one result per label in name order
+    public List<Result> runMix(String name, int concurrency, Duration warmup, Duration duration, Supplier<Call> calls)
+            throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        List<Map<String, LatencyLog>> perWorker = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+
+        for (int i = 0; i < concurrency; i++) {
+            Map<String, LatencyLog> logs = new HashMap<>();
+            Thread worker = new Thread(() -> {
+                while (true) {
+                    long started = System.nanoTime();
+                    if (started >= measureUntil) {
+                        break;
+                    }
+                    Call call = calls.get();
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    if (started >= measureFrom) {
+                        logs.computeIfAbsent(call.label(), label -> new LatencyLog()).add(System.nanoTime() - started, ok);
+                    }
+                }
+                synchronized (perWorker) {
+                    perWorker.add(logs);
+                }
+            }, "load-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Map<String, List<LatencyLog>> byLabel = new TreeMap<>();
+        for (Map<String, LatencyLog> logs : perWorker) {
+            logs.forEach((label, log) -> byLabel.computeIfAbsent(label, key -> new ArrayList<>()).add(log));
+        }
+        List<Result> results = new ArrayList<>();
+        results.add(result(name, byLabel.values().stream().flatMap(List::stream).toList(), duration));
+        if (byLabel.size() > 1) {
+            byLabel.forEach((label, logs) -> results.add(result("  " + label, logs, duration)));
+        }
+        return results;
+    }
+
+    private static Result result(String name, List<LatencyLog> logs, Duration duration) {
+        long[] latencies = logs.stream().map(LatencyLog::toArray).flatMapToLong(Arrays::stream).sorted().toArray();
+        long errors = logs.stream().mapToLong(log -> log.errors).sum();
+        double seconds = duration.toNanos() / 1e9;
+        return new Result(name, latencies.length, errors, latencies.length / seconds,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    public record Result(String name, long requests, long errors, double requestsPerSecond, double p50Millis, double p99Millis) {
+
+        public static String header() {
+            return String.format("%-40s %10s %8s %10s %10s %10s", "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %10d %8d %10.1f %10.2f %10.2f", name, requests, errors, requestsPerSecond, p50Millis, p99Millis);
+        }
+    }
+
+    public record Call(String label, HttpRequest request) {
+    }
+
+    // Growable long[] so recording a sample does not box
+    private static final class LatencyLog {
+        private long[] values = new long[4096];
+        private int size;
+        private long errors;
+
+        void add(long value, boolean ok) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.hrservice.hrservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fills a freshly started hrservice through its own HR APIs: leave types, departments with HODs,
+// and a leave history loaded with the NDJSON import. Future leaves are laid out in per-department
+// slots of three days, so seeded and newly submitted requests never overlap and approvals succeed.
+final class LoadTestSeeder {
+
+    static final String HR_TOKEN = AuthServiceStub.token("hr", "HR-1", 0);
+    private static final int SLOT_DAYS = 3;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    LoadTestSeeder(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    // What the traffic mix needs to address existing data
+    record Dataset(List<Long> leaveTypeIds, Map<Long, String> hodByDepartment,
+                   Map<Long, Queue<Long>> pendingByDepartment, Map<Long, AtomicInteger> nextSlot) {
+
+        List<Long> departmentIds() {
+            return List.copyOf(hodByDepartment.keySet());
+        }
+
+        // First day of a free three-day slot in the department, starting a month out
+        LocalDate claimSlot(long departmentId) {
+            return slotStart(nextSlot.get(departmentId).getAndIncrement());
+        }
+    }
+
+    Dataset seed(int departments, int employeesPerDepartment, int historyPerEmployee, int pendingPerDepartment)
+            throws IOException, InterruptedException {
+        List<Long> leaveTypeIds = new ArrayList<>();
+        for (String name : List.of("Annual", "Sick", "Unpaid")) {
+            Map<String, Object> leaveType = new LinkedHashMap<>();
+            leaveType.put("name", name);
+            leaveType.put("description", name + " leave");
+            leaveTypeIds.add(post("/api/leave-types", leaveType).path("id").asLong());
+        }
+
+        Map<Long, String> hodByDepartment = new LinkedHashMap<>();
+        for (int i = 1; i <= departments; i++) {
+            String hodEmployeeId = "HOD-" + i;
+            Map<String, Object> department = Map.of("name", "Department " + i, "hodEmployeeId", hodEmployeeId);
+            hodByDepartment.put(post("/api/departments", department).path("id").asLong(), hodEmployeeId);
+        }
+
+        importHistory(leaveTypeIds, hodByDepartment.keySet(), employeesPerDepartment, historyPerEmployee, pendingPerDepartment);
+
+        Map<Long, Queue<Long>> pendingByDepartment = new HashMap<>();
+        Map<Long, AtomicInteger> nextSlot = new HashMap<>();
+        for (Map.Entry<Long, String> department : hodByDepartment.entrySet()) {
+            pendingByDepartment.put(department.getKey(), new ConcurrentLinkedQueue<>(
+                    pendingIds(department.getKey(), department.getValue())));
+            nextSlot.put(department.getKey(), new AtomicInteger(pendingPerDepartment));
+        }
+        return new Dataset(leaveTypeIds, hodByDepartment, pendingByDepartment, nextSlot);
+    }
+
+    // Decided leaves in the past two years plus PENDING ones in the first future slots
+    private void importHistory(List<Long> leaveTypeIds, Iterable<Long> departmentIds, int employeesPerDepartment,
+                               int historyPerEmployee, int pendingPerDepartment) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDate today = LocalDate.now();
+        StringBuilder ndjson = new StringBuilder();
+        for (long departmentId : departmentIds) {
+            for (int n = 0; n < employeesPerDepartment; n++) {
+                String employeeId = AuthServiceStub.employeeId(departmentId, n);
+                for (int h = 0; h < historyPerEmployee; h++) {
+                    LocalDate start = today.minusDays(random.nextInt(30, 730));
+                    boolean approved = random.nextInt(10) < 8;
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("employeeId", employeeId);
+                    row.put("departmentId", departmentId);
+                    row.put("leaveTypeId", leaveTypeIds.get(random.nextInt(leaveTypeIds.size())));
+                    row.put("startDate", start.toString());
+                    row.put("endDate", start.plusDays(random.nextInt(0, 5)).toString());
+                    row.put("reason", "Seeded history");
+                    row.put("status", approved ? "APPROVED" : "REJECTED");
+                    row.put("approvedBy", "HOD");
+                    ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+                }
+            }
+            for (int slot = 0; slot < pendingPerDepartment; slot++) {
+                LocalDate start = slotStart(slot);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("employeeId", AuthServiceStub.employeeId(departmentId, slot % employeesPerDepartment));
+                row.put("departmentId", departmentId);
+                row.put("leaveTypeId", leaveTypeIds.get(slot % leaveTypeIds.size()));
+                row.put("startDate", start.toString());
+                row.put("endDate", start.plusDays(1).toString());
+                row.put("reason", "Seeded pending request");
+                ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+            }
+        }
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/leave-requests/import"))
+                        .header("Authorization", "Bearer " + HR_TOKEN)
+                        .header("Content-Type", "application/x-ndjson")
+                        .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode report = check(response);
+        System.out.printf("Seeded %d leave requests (%d failed) in %d ms%n",
+                report.path("imported").asLong(), report.path("failed").asLong(), report.path("elapsedMillis").asLong());
+    }
+
+    private List<Long> pendingIds(long departmentId, String hodEmployeeId) throws IOException, InterruptedException {
+        String token = AuthServiceStub.token("hod", hodEmployeeId, departmentId);
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            JsonNode items = check(client.send(HttpRequest.newBuilder(
+                                    URI.create(baseUrl + "/api/leave-requests/pending?size=500&page=" + page))
+                            .header("Authorization", "Bearer " + token)
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()));
+            items.forEach(item -> ids.add(item.path("id").asLong()));
+            if (items.size() < 500) {
+                return ids;
+            }
+        }
+    }
+
+    private JsonNode post(String path, Object body) throws IOException, InterruptedException {
+        return check(client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Authorization", "Bearer " + HR_TOKEN)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    private JsonNode check(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed: " + response.request().method() + " "
+                    + response.request().uri() + " -> " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static LocalDate slotStart(int slot) {
+        return LocalDate.now().plusDays(30 + (long) slot * SLOT_DAYS);
+    }
+}
@@ -0,0 +1,242 @@
+package com.hrservice.hrservice.loadtest;
+
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+// EXPLAIN and latency check of the leave_requests hot paths on a real MySQL, where H2 says nothing
+// about index choice. Migrates the target database with the service's Flyway scripts, seeds it when
+// leave_requests is empty, then runs each repository query as SQL and fails if MySQL does not use the
+// expected index or the median latency is over budget. Point it at a scratch database:
+// mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.hrservice.hrservice.loadtest.QueryPlanCheck
+//     [-Dexplain.url=jdbc:mysql://localhost:3306/hr-explain?createDatabaseIfNotExist=true
+//      -Dexplain.user=root -Dexplain.password=admin -Dexplain.departments=50
+//      -Dexplain.employeesPerDepartment=100 -Dexplain.historyPerEmployee=10
+//      -Dexplain.runs=200 -Dexplain.budgetMs=5]
+public final class QueryPlanCheck {
+
+    private static final String VIEW_COLUMNS = "lr.id, lr.employee_id, lr.department_id, lt.id, lt.name, lr.start_date, "
+            + "lr.end_date, lr.reason, lr.status, lr.approved_by, lr.rejection_reason, lr.created_at, lr.updated_at "
+            + "FROM leave_requests lr LEFT JOIN leave_types lt ON lt.id = lr.leave_type_id ";
+    private static final String HEADED_BY = "AND EXISTS (SELECT d.id FROM departments d "
+            + "WHERE d.id = lr.department_id AND d.hod_employee_id = ?) ";
+    private static final Set<String> DEPARTMENT_STATUS = Set.of(
+            "idx_leave_requests_department_status_dates", "idx_leave_requests_department_status_updated");
+
+    // One repository query: the SQL Hibernate sends for it, and the index its table alias must use
+    private record Check(String name, String sql, String alias, Set<String> indexes, Object... args) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("explain.url",
+                "jdbc:mysql://localhost:3306/hr-explain?createDatabaseIfNotExist=true&useSSL=false"
+                        + "&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        String user = System.getProperty("explain.user", "root");
+        String password = System.getProperty("explain.password", "admin");
+        int departments = Integer.getInteger("explain.departments", 50);
+        int employeesPerDepartment = Integer.getInteger("explain.employeesPerDepartment", 100);
+        int historyPerEmployee = Integer.getInteger("explain.historyPerEmployee", 10);
+        int runs = Integer.getInteger("explain.runs", 200);
+        double budgetMillis = Double.parseDouble(System.getProperty("explain.budgetMs", "5"));
+
+        Flyway.configure().dataSource(url, user, password).locations("classpath:db/migration").load().migrate();
+
+        List<String> failures = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            if (count(connection, "SELECT COUNT(*) FROM leave_requests") == 0) {
+                seed(connection, departments, employeesPerDepartment, historyPerEmployee);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE departments, leave_types, leave_requests");
+            }
+
+            long departmentId = count(connection, "SELECT MAX(id) FROM departments") / 2 + 1;
+            String hod = "HOD-" + departmentId;
+            String employee = "EMP-" + departmentId + "-1";
+            Date from = Date.valueOf(LocalDate.now().plusDays(10));
+            Date to = Date.valueOf(LocalDate.now().plusDays(14));
+            long middleId = count(connection, "SELECT MAX(id) FROM leave_requests") / 2;
+
+            List<Check> checks = List.of(
+                    new Check("existsOverlappingLeave",
+                            "SELECT COUNT(lr.id) FROM leave_requests lr WHERE lr.department_id = ? "
+                                    + "AND lr.status IN ('APPROVED', 'PENDING') AND lr.id <> ? "
+                                    + "AND lr.start_date <= ? AND lr.end_date >= ?",
+                            "lr", DEPARTMENT_STATUS, departmentId, 0L, to, from),
+                    new Check("findActiveIntervalsInDepartment",
+                            "SELECT lr.id, lr.department_id, lr.start_date, lr.end_date FROM leave_requests lr "
+                                    + "WHERE lr.department_id = ? AND lr.status IN ('APPROVED', 'PENDING') "
+                                    + "AND lr.start_date <= ? AND lr.end_date >= ?",
+                            "lr", DEPARTMENT_STATUS, departmentId, to, from),
+                    new Check("findViewsByDepartmentIdAndStatusForHod",
+                            "SELECT " + VIEW_COLUMNS + "WHERE lr.department_id = ? AND lr.status = 'PENDING' "
+                                    + HEADED_BY + "ORDER BY lr.id LIMIT 50",
+                            "lr", DEPARTMENT_STATUS, departmentId, hod),
+                    new Check("findVersionByDepartmentIdAndStatusForHod",
+                            "SELECT COUNT(lr.id), MAX(lr.updated_at) FROM leave_requests lr "
+                                    + "WHERE lr.department_id = ? AND lr.status = 'PENDING' " + HEADED_BY,
+                            "lr", Set.of("idx_leave_requests_department_status_updated"), departmentId, hod),
+                    new Check("findViewsByEmployeeId",
+                            "SELECT " + VIEW_COLUMNS + "WHERE lr.employee_id = ? ORDER BY lr.id",
+                            "lr", Set.of("idx_leave_requests_employee_status_dates", "idx_leave_requests_employee_updated"),
+                            employee),
+                    new Check("findVersionByEmployeeId",
+                            "SELECT COUNT(lr.id), MAX(lr.updated_at) FROM leave_requests lr WHERE lr.employee_id = ?",
+                            "lr", Set.of("idx_leave_requests_employee_updated"), employee),
+                    new Check("findViewPageAfter",
+                            "SELECT " + VIEW_COLUMNS + "WHERE lr.id > ? ORDER BY lr.id LIMIT 100",
+                            "lr", Set.of("PRIMARY"), middleId),
+                    new Check("findFirstByHodEmployeeId",
+                            "SELECT d.id, d.name, d.hod_employee_id FROM departments d WHERE d.hod_employee_id = ? LIMIT 1",
+                            "d", Set.of("idx_departments_hod_employee_id"), hod));
+
+            System.out.printf("%-42s %-48s %10s %10s %10s%n", "query", "index", "est. rows", "p50 ms", "p95 ms");
+            for (Check check : checks) {
+                String[] plan = explain(connection, check);
+                double[] latency = latency(connection, check, runs);
+                System.out.printf("%-42s %-48s %10s %10.3f %10.3f%n", check.name(), plan[0], plan[1], latency[0], latency[1]);
+                if (!check.indexes().contains(plan[0])) {
+                    failures.add(check.name() + " uses " + plan[0] + ", expected one of " + check.indexes());
+                }
+                if (latency[0] > budgetMillis) {
+                    failures.add(check.name() + " p50 " + String.format("%.3f", latency[0]) + " ms is over the "
+                            + budgetMillis + " ms budget");
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.out.println();
+            failures.forEach(failure -> System.out.println("FAIL " + failure));
+            System.exit(1);
+        }
+        System.out.println("\nAll queries use their expected index within budget");
+        System.exit(0);
+    }
+
+    // Index chosen for the check's table alias and MySQL's row estimate for it
+    private static String[] explain(Connection connection, Check check) throws SQLException {
+        try (PreparedStatement statement = bind(connection.prepareStatement("EXPLAIN " + check.sql()), check.args());
+             ResultSet plan = statement.executeQuery()) {
+            while (plan.next()) {
+                if (check.alias().equals(plan.getString("table"))) {
+                    String key = plan.getString("key");
+                    return new String[]{key != null ? key : "none (" + plan.getString("type") + ")", plan.getString("rows")};
+                }
+            }
+        }
+        throw new IllegalStateException("No plan row for " + check.alias() + " in " + check.name());
+    }
+
+    // Median and p95 over the runs, after as many warm-up executions
+    private static double[] latency(Connection connection, Check check, int runs) throws SQLException {
+        long[] nanos = new long[runs];
+        try (PreparedStatement statement = bind(connection.prepareStatement(check.sql()), check.args())) {
+            for (int run = -runs; run < runs; run++) {
+                long start = System.nanoTime();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getObject(1);
+                    }
+                }
+                if (run >= 0) {
+                    nanos[run] = System.nanoTime() - start;
+                }
+            }
+        }
+        Arrays.sort(nanos);
+        return new double[]{nanos[runs / 2] / 1e6, nanos[(int) (runs * 0.95)] / 1e6};
+    }
+
+    // departments with HOD-<id>, three leave types, and per employee EMP-<departmentId>-<n> a history of
+    // one- to five-day leaves from two years back to a year ahead, mostly approved
+    private static void seed(Connection connection, int departments, int employeesPerDepartment, int historyPerEmployee)
+            throws SQLException {
+        System.out.printf("Seeding %d departments x %d employees x %d leaves%n", departments, employeesPerDepartment, historyPerEmployee);
+        connection.setAutoCommit(false);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement leaveTypes = connection.prepareStatement(
+                "INSERT INTO leave_types (name, max_days_per_year, requires_documentation, created_at, updated_at) VALUES (?, 30, false, ?, ?)")) {
+            for (String name : List.of("Annual", "Sick", "Unpaid")) {
+                leaveTypes.setString(1, name);
+                leaveTypes.setTimestamp(2, now);
+                leaveTypes.setTimestamp(3, now);
+                leaveTypes.addBatch();
+            }
+            leaveTypes.executeBatch();
+        }
+        long firstLeaveType = count(connection, "SELECT MIN(id) FROM leave_types");
+
+        try (PreparedStatement department = connection.prepareStatement(
+                "INSERT INTO departments (id, name, hod_employee_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (long id = 1; id <= departments; id++) {
+                department.setLong(1, id);
+                department.setString(2, "Department " + id);
+                department.setString(3, "HOD-" + id);
+                department.setTimestamp(4, now);
+                department.setTimestamp(5, now);
+                department.addBatch();
+            }
+            department.executeBatch();
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate firstDay = LocalDate.now().minusYears(2);
+        try (PreparedStatement leave = connection.prepareStatement(
+                "INSERT INTO leave_requests (employee_id, department_id, leave_type_id, start_date, end_date, status, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (long departmentId = 1; departmentId <= departments; departmentId++) {
+                for (int n = 0; n < employeesPerDepartment; n++) {
+                    for (int h = 0; h < historyPerEmployee; h++) {
+                        LocalDate start = firstDay.plusDays(random.nextInt(3 * 365));
+                        int roll = random.nextInt(100);
+                        String status = start.isAfter(LocalDate.now()) && roll < 30 ? "PENDING" : roll < 85 ? "APPROVED" : "REJECTED";
+                        Timestamp updatedAt = Timestamp.valueOf(start.atStartOfDay().minusDays(random.nextInt(1, 30)));
+                        leave.setString(1, "EMP-" + departmentId + "-" + n);
+                        leave.setLong(2, departmentId);
+                        leave.setLong(3, firstLeaveType + random.nextInt(3));
+                        leave.setDate(4, Date.valueOf(start));
+                        leave.setDate(5, Date.valueOf(start.plusDays(random.nextInt(5))));
+                        leave.setString(6, status);
+                        leave.setTimestamp(7, updatedAt);
+                        leave.setTimestamp(8, updatedAt);
+                        leave.addBatch();
+                    }
+                }
+                leave.executeBatch();
+                connection.commit();
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static PreparedStatement bind(PreparedStatement statement, Object[] args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+        return statement;
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hrservice.hrservice.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Platform vs virtual request threads with injected auth-service latency.
+// mvn -Pjava21,loadtest test-compile exec:java [-Dloadtest.authLatencyMs=50 -Dloadtest.concurrency=800
+//     -Dloadtest.durationSeconds=20 -Dloadtest.path=/api/leave-types]
+// On Java 17 only the platform run is executed.
+public final class ThreadModelComparison {
+
+    public static void main(String[] args) throws Exception {
+        long latencyMillis = Long.getLong("loadtest.authLatencyMs", 50);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 800);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 20));
+        String path = System.getProperty("loadtest.path", "/api/leave-types");
+
+        List<LoadGenerator.Result> results = new ArrayList<>();
+        try (AuthServiceStub stub = new AuthServiceStub(latencyMillis, 50)) {
+            results.add(run(stub, false, concurrency, warmup, duration, path));
+            if (Runtime.version().feature() >= 21) {
+                results.add(run(stub, true, concurrency, warmup, duration, path));
+            } else {
+                System.out.println("Java " + Runtime.version().feature() + ": skipping the virtual-thread run (needs 21+)");
+            }
+        }
+
+        System.out.printf("%nGET %s, auth-service latency %d ms, %d concurrent clients, %ds measured%n",
+                path, latencyMillis, concurrency, duration.toSeconds());
+        System.out.println(LoadGenerator.Result.header());
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    private static LoadGenerator.Result run(AuthServiceStub stub, boolean virtualThreads, int concurrency,
+                                            Duration warmup, Duration duration, String path) throws InterruptedException {
+        try (ConfigurableApplicationContext context = HrserviceHarness.start(stub.url(), virtualThreads, Map.of())) {
+            String baseUrl = "http://127.0.0.1:" + HrserviceHarness.port(context);
+            return new LoadGenerator().run(virtualThreads ? "virtual threads" : "platform threads (200)",
+                    concurrency, warmup, duration, () -> {
+                        int n = ThreadLocalRandom.current().nextInt(1000);
+                        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .header("Authorization", "Bearer " + AuthServiceStub.token("employee", AuthServiceStub.employeeId(1, n), 1))
+                                .GET()
+                                .build();
+                    });
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.hrservice.hrservice.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// End-to-end run of hrservice on H2 against the auth-service stub: seeds departments, leave types
+// and a leave history, then drives a weighted employee / HOD / HR mix and reports throughput and
+// p50/p99 overall and per call.
+// mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.hrservice.hrservice.loadtest.TrafficMixLoadTest
+//     [-Dloadtest.authLatencyMs=5 -Dloadtest.concurrency=100 -Dloadtest.durationSeconds=30
+//      -Dloadtest.mix=70,20,10 -Dloadtest.departments=20 -Dloadtest.employeesPerDepartment=50
+//      -Dloadtest.historyPerEmployee=10 -Dloadtest.pendingPerDepartment=200 -Dloadtest.virtualThreads=false]
+public final class TrafficMixLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        long latencyMillis = Long.getLong("loadtest.authLatencyMs", 5);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 100);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30));
+        int departments = Integer.getInteger("loadtest.departments", 20);
+        int employeesPerDepartment = Integer.getInteger("loadtest.employeesPerDepartment", 50);
+        int historyPerEmployee = Integer.getInteger("loadtest.historyPerEmployee", 10);
+        int pendingPerDepartment = Integer.getInteger("loadtest.pendingPerDepartment", 200);
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtualThreads");
+        int[] mix = parseMix(System.getProperty("loadtest.mix", "70,20,10"));
+
+        List<LoadGenerator.Result> results;
+        try (AuthServiceStub stub = new AuthServiceStub(latencyMillis, employeesPerDepartment);
+             ConfigurableApplicationContext context = HrserviceHarness.start(stub.url(), virtualThreads, Map.of())) {
+            String baseUrl = "http://127.0.0.1:" + HrserviceHarness.port(context);
+            LoadTestSeeder.Dataset dataset = new LoadTestSeeder(baseUrl)
+                    .seed(departments, employeesPerDepartment, historyPerEmployee, pendingPerDepartment);
+            Traffic traffic = new Traffic(baseUrl, dataset, employeesPerDepartment, mix);
+            results = new LoadGenerator().runMix("all", concurrency, warmup, duration, traffic::next);
+        }
+
+        System.out.printf("%nTraffic mix employee/hod/hr = %d/%d/%d, auth-service latency %d ms, %d concurrent clients, "
+                        + "%s threads, %ds measured%n",
+                mix[0], mix[1], mix[2], latencyMillis, concurrency, virtualThreads ? "virtual" : "platform", duration.toSeconds());
+        System.out.println(LoadGenerator.Result.header());
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    private static int[] parseMix(String mix) {
+        String[] parts = mix.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("loadtest.mix must be employee,hod,hr weights, e.g. 70,20,10");
+        }
+        return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()), Integer.parseInt(parts[2].trim())};
+    }
+
+    // Picks the next call: a role by weight, then an action with the shares below
+    private static final class Traffic {
+
+        private final String baseUrl;
+        private final LoadTestSeeder.Dataset dataset;
+        private final List<Long> departmentIds;
+        private final int employeesPerDepartment;
+        private final int[] mix;
+        private final int total;
+
+        Traffic(String baseUrl, LoadTestSeeder.Dataset dataset, int employeesPerDepartment, int[] mix) {
+            this.baseUrl = baseUrl;
+            this.dataset = dataset;
+            this.departmentIds = dataset.departmentIds();
+            this.employeesPerDepartment = employeesPerDepartment;
+            this.mix = mix;
+            this.total = mix[0] + mix[1] + mix[2];
+        }
+
+        LoadGenerator.Call next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long departmentId = departmentIds.get(random.nextInt(departmentIds.size()));
+            int role = random.nextInt(total);
+            if (role < mix[0]) {
+                return employee(random, departmentId);
+            }
+            if (role < mix[0] + mix[1]) {
+                return hod(random, departmentId);
+            }
+            return hr(random);
+        }
+
+        // 45% own leaves, 20% leave types, 20% balances, 10% departments, 5% new request
+        private LoadGenerator.Call employee(ThreadLocalRandom random, long departmentId) {
+            String token = AuthServiceStub.token("employee",
+                    AuthServiceStub.employeeId(departmentId, random.nextInt(employeesPerDepartment)), departmentId);
+            int action = random.nextInt(100);
+            if (action < 45) {
+                return get("employee GET /leave-requests/my-leaves", "/api/leave-requests/my-leaves", token);
+            }
+            if (action < 65) {
+                return get("employee GET /leave-types", "/api/leave-types", token);
+            }
+            if (action < 85) {
+                return get("employee GET /leave-balances/me", "/api/leave-balances/me", token);
+            }
+            if (action < 95) {
+                return get("employee GET /departments", "/api/departments", token);
+            }
+            LocalDate start = dataset.claimSlot(departmentId);
+            long leaveTypeId = dataset.leaveTypeIds().get(random.nextInt(dataset.leaveTypeIds().size()));
+            return send("employee POST /leave-requests", "/api/leave-requests", token, "POST",
+                    "{\"leaveTypeId\":" + leaveTypeId + ",\"startDate\":\"" + start + "\",\"endDate\":\""
+                            + start.plusDays(1) + "\",\"reason\":\"Load test\"}");
+        }
+
+        // 70% pending list, 30% decision on a seeded pending request (list again once none are left)
+        private LoadGenerator.Call hod(ThreadLocalRandom random, long departmentId) {
+            String token = AuthServiceStub.token("hod", dataset.hodByDepartment().get(departmentId), departmentId);
+            Long pendingId = random.nextInt(100) < 30 ? dataset.pendingByDepartment().get(departmentId).poll() : null;
+            if (pendingId == null) {
+                return get("hod GET /leave-requests/pending", "/api/leave-requests/pending", token);
+            }
+            String action = random.nextInt(10) < 7 ? "approve" : "reject";
+            return send("hod PUT /leave-requests/{id}/approve-reject", "/api/leave-requests/" + pendingId + "/approve-reject",
+                    token, "PUT", "{\"action\":\"" + action + "\",\"rejectionReason\":\"Load test\"}");
+        }
+
+        // 50% leave request pages, 25% pending filter, 25% departments
+        private LoadGenerator.Call hr(ThreadLocalRandom random) {
+            String token = LoadTestSeeder.HR_TOKEN;
+            int action = random.nextInt(100);
+            if (action < 50) {
+                return get("hr GET /leave-requests", "/api/leave-requests?limit=100", token);
+            }
+            if (action < 75) {
+                return get("hr GET /leave-requests?status=PENDING", "/api/leave-requests?status=PENDING&limit=100", token);
+            }
+            return get("hr GET /departments", "/api/departments", token);
+        }
+
+        private LoadGenerator.Call get(String label, String path, String token) {
+            return new LoadGenerator.Call(label, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build());
+        }
+
+        private LoadGenerator.Call send(String label, String path, String token, String method, String json) {
+            return new LoadGenerator.Call(label, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json))
+                    .build());
+        }
+    }
+}
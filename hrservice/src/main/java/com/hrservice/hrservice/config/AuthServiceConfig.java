@@ -4,10 +4,65 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "auth-service")
 @Data
 public class AuthServiceConfig {
     private String url;
-}
+    private Http http = new Http();
+    private TokenCache tokenCache = new TokenCache();
+    private DepartmentCache departmentCache = new DepartmentCache();
+    private Resilience resilience = new Resilience();
+
+    @Data
+    public static class Http {
+        private int maxConnections = 100;
+        private int maxConnectionsPerRoute = 50;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        // How long a caller waits for a pooled connection before failing
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+        // Used when auth-service does not send a Keep-Alive header
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+    }
 
+    @Data
+    public static class TokenCache {
+        private long maxSize = 10_000;
+        // Upper bound; entries never outlive the token's own exp claim
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class DepartmentCache {
+        // Entries older than this are served while a background refresh runs
+        private Duration refreshAfter = Duration.ofMinutes(1);
+        // Entries older than this are reloaded before being served
+        private Duration staleWindow = Duration.ofMinutes(10);
+        private int refreshThreads = 2;
+    }
+
+    @Data
+    public static class Resilience {
+        // Budget for one call including retries and backoff; each HTTP attempt's timeouts are capped to what is left
+        private Duration deadline = Duration.ofSeconds(2);
+        // Attempts per idempotent call, backoff doubling from retryBackoff with +/-50% jitter
+        private int maxAttempts = 3;
+        private Duration retryBackoff = Duration.ofMillis(100);
+        // Breaker opens when this share (%) of the last slidingWindowSize calls failed or were slow
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private float failureRateThreshold = 50;
+        private Duration slowCallDuration = Duration.ofSeconds(1);
+        private float slowCallRateThreshold = 80;
+        // Time open before a few trial calls are let through
+        private Duration openStateWait = Duration.ofSeconds(10);
+        private int halfOpenCalls = 5;
+        // Concurrent calls in flight; callers beyond it wait up to bulkheadWait, then get a 503
+        private int maxConcurrentCalls = 50;
+        private Duration bulkheadWait = Duration.ZERO;
+    }
+}
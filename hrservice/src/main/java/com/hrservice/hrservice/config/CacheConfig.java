@@ -0,0 +1,40 @@
+package com.hrservice.hrservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String LEAVE_TYPES = "leaveTypes";
+    public static final String DEPARTMENTS = "departments";
+    public static final String REFERENCE_VERSIONS = "referenceVersions";
+
+    // Reference data: tiny, read on every submission, invalidated by the owning service on write.
+    // Evictions are deferred to commit so a concurrent read cannot re-cache the old row.
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(LEAVE_TYPES, DEPARTMENTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(30))
+                .recordStats());
+        // Versions of reference data that other responses embed; eviction only reaches this instance,
+        // so they are refreshed every few seconds to pick up writes made through other instances
+        cacheManager.registerCustomCache(REFERENCE_VERSIONS, Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(5))
+                .recordStats()
+                .build());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -4,7 +4,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties({JwtConfig.class, AuthServiceConfig.class})
+@EnableConfigurationProperties({JwtConfig.class, AuthServiceConfig.class, LeaveImportConfig.class, LeaveBalanceConfig.class})
 public class EnableConfigurationPropertiesConfig {
 }
 
@@ -4,10 +4,21 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "auth-service.jwt")
 @Data
 public class JwtConfig {
     private String secret;
-}
 
+    // Verify tokens in-process with the shared secret instead of calling /auth/validate
+    private boolean localVerification = true;
+
+    // Ask auth-service when a token cannot be verified locally
+    private boolean remoteFallback = false;
+
+    // Identity of the token hrservice signs for its own calls to auth-service (ServiceTokenIssuer)
+    private String serviceEmployeeId = "hrservice";
+    private Duration serviceTokenTtl = Duration.ofMinutes(15);
+}
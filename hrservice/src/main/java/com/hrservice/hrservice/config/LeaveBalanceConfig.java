@@ -0,0 +1,13 @@
+package com.hrservice.hrservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "leave-balance")
+@Data
+public class LeaveBalanceConfig {
+    // Spring cron for the scheduled reconciliation; "-" disables it
+    private String reconcileCron = "-";
+}
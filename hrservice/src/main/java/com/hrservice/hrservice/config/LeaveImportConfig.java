@@ -0,0 +1,13 @@
+package com.hrservice.hrservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "leave-import")
+@Data
+public class LeaveImportConfig {
+    private int batchSize = 1000;
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,17 @@
+package com.hrservice.hrservice.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Histogram and percentile settings for the timers live under management.metrics in application.yml
+@Configuration
+public class MetricsConfig {
+
+    // Backs @Timed on Spring beans (class-level @Timed times every public method)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
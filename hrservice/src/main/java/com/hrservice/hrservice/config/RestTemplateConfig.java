@@ -1,15 +1,95 @@
 package com.hrservice.hrservice.config;
 
+import com.hrservice.hrservice.service.AuthServiceDeadline;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
 
+    private final AuthServiceConfig authServiceConfig;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager authServiceConnectionManager() {
+        AuthServiceConfig.Http http = authServiceConfig.getHttp();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient authServiceHttpClient(PoolingHttpClientConnectionManager authServiceConnectionManager) {
+        AuthServiceConfig.Http http = authServiceConfig.getHttp();
+        return HttpClients.custom()
+                .setConnectionManager(authServiceConnectionManager)
+                .setDefaultRequestConfig(requestConfig(null))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getMaxIdleTime()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient authServiceHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(authServiceHttpClient) {
+            // Inside a guarded call, an attempt never waits past the call's deadline
+            @Override
+            protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+                Duration remaining = AuthServiceDeadline.remaining();
+                if (remaining == null) {
+                    return super.createHttpContext(httpMethod, uri);
+                }
+                HttpClientContext context = HttpClientContext.create();
+                context.setRequestConfig(requestConfig(remaining));
+                return context;
+            }
+        });
+    }
+
+    private RequestConfig requestConfig(Duration cap) {
+        AuthServiceConfig.Http http = authServiceConfig.getHttp();
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(capped(http.getConnectionRequestTimeout(), cap)))
+                .setResponseTimeout(Timeout.of(capped(http.getReadTimeout(), cap)))
+                .setConnectionKeepAlive(TimeValue.of(http.getKeepAlive()))
+                .build();
+    }
+
+    // Zero means "no timeout" to httpclient, so an exhausted budget still gets a millisecond
+    private static Duration capped(Duration timeout, Duration cap) {
+        if (cap == null || timeout.compareTo(cap) <= 0) {
+            return timeout;
+        }
+        return cap.compareTo(Duration.ofMillis(1)) < 0 ? Duration.ofMillis(1) : cap;
     }
-}
 
+    // Publishes httpcomponents.httpclient.pool.* gauges (leased, available, pending, max)
+    @Bean
+    public MeterBinder authServiceConnectionPoolMetrics(PoolingHttpClientConnectionManager authServiceConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(authServiceConnectionManager, "auth-service");
+    }
+}
@@ -0,0 +1,57 @@
+package com.hrservice.hrservice.controller;
+
+import com.hrservice.hrservice.annotation.RequiresRole;
+import com.hrservice.hrservice.service.DepartmentMembershipCache;
+import com.hrservice.hrservice.service.TokenValidationCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Cache invalidation APIs")
+@SecurityRequirement(name = "Bearer Authentication")
+public class CacheController {
+
+    private final TokenValidationCache tokenValidationCache;
+    private final DepartmentMembershipCache departmentMembershipCache;
+
+    @DeleteMapping("/tokens/employees/{employeeId}")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Evict cached tokens of an employee", description = "Drop cached token validations for a deactivated or changed user (HR only)")
+    public ResponseEntity<Void> evictEmployeeTokens(
+            @Parameter(description = "Employee ID") @PathVariable String employeeId) {
+        tokenValidationCache.invalidateEmployee(employeeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/tokens")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Evict all cached tokens", description = "Drop every cached token validation (HR only)")
+    public ResponseEntity<Void> evictAllTokens() {
+        tokenValidationCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/departments/{departmentId}")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Evict cached department members", description = "Reload a department's member list on next use, e.g. after employees change department (HR only)")
+    public ResponseEntity<Void> evictDepartmentMembers(
+            @Parameter(description = "Department ID") @PathVariable Long departmentId) {
+        departmentMembershipCache.invalidate(departmentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/departments")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Evict all cached department members", description = "Reload every department's member list on next use (HR only)")
+    public ResponseEntity<Void> evictAllDepartmentMembers() {
+        departmentMembershipCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.hrservice.hrservice.controller;
+
+import com.hrservice.hrservice.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.web.context.request.WebRequest;
+
+// ETag / Last-Modified handling shared by the read endpoints
+final class ConditionalGet {
+
+    // Let browsers keep the body but revalidate on every poll; Spring Security would otherwise send no-store
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    // Sets ETag/Last-Modified on the response; true means a 304 has been prepared and the handler should return null
+    static boolean notModified(WebRequest webRequest, ResourceVersion version) {
+        return webRequest.checkNotModified(version.getETag(), version.getLastModified());
+    }
+
+    // Lists answer on the ETag alone: their newest updatedAt does not move when a row is deleted,
+    // so a client revalidating with If-Modified-Since only would keep showing the deleted row
+    static boolean listNotModified(WebRequest webRequest, ResourceVersion version) {
+        return webRequest.checkNotModified(version.getETag());
+    }
+}
@@ -2,6 +2,7 @@ package com.hrservice.hrservice.controller;
 
 import com.hrservice.hrservice.annotation.RequiresRole;
 import com.hrservice.hrservice.dto.DepartmentDto;
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.entity.Department;
 import com.hrservice.hrservice.service.DepartmentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,11 +34,17 @@ public class DepartmentController {
     @Operation(summary = "Get all departments", description = "Retrieve a list of all departments")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<List<Department>> getAllDepartments() {
-        return ResponseEntity.ok(departmentService.findAll());
+    public ResponseEntity<List<Department>> getAllDepartments(WebRequest webRequest) {
+        // Versioned from the list it returns, so the tag can never be newer than the body
+        List<Department> departments = departmentService.findAll();
+        if (ConditionalGet.listNotModified(webRequest, ResourceVersion.ofRows(departments, Department::getId, Department::getUpdatedAt))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE).body(departments);
     }
 
     @GetMapping("/{id}")
@@ -44,14 +52,21 @@ public class DepartmentController {
     @Operation(summary = "Get department by ID", description = "Retrieve a specific department by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag / date"),
             @ApiResponse(responseCode = "404", description = "Department not found"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Department> getDepartment(
-            @Parameter(description = "Department ID") @PathVariable Long id) {
-        return departmentService.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            @Parameter(description = "Department ID") @PathVariable Long id,
+            WebRequest webRequest) {
+        Department department = departmentService.findById(id).orElse(null);
+        if (department == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalGet.notModified(webRequest, ResourceVersion.of(department.getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE).body(department);
     }
 
     @PostMapping
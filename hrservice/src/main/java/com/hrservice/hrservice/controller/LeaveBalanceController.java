@@ -0,0 +1,52 @@
+package com.hrservice.hrservice.controller;
+
+import com.hrservice.hrservice.annotation.RequiresRole;
+import com.hrservice.hrservice.dto.LeaveBalanceView;
+import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.service.LeaveBalanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/leave-balances")
+@RequiredArgsConstructor
+@Tag(name = "Leave Balances", description = "Leave allowance and usage APIs")
+@SecurityRequirement(name = "Bearer Authentication")
+public class LeaveBalanceController {
+
+    private final LeaveBalanceService leaveBalanceService;
+
+    @GetMapping("/me")
+    @RequiresRole({"hr", "hod", "employee"})
+    @Operation(summary = "Get my leave balances", description = "Approved, pending and remaining days per leave type for a calendar year (defaults to the current year)")
+    public ResponseEntity<List<LeaveBalanceView>> getMyBalances(
+            @Parameter(description = "Calendar year") @RequestParam(required = false) Integer year) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserInfo userInfo)) {
+            throw new SecurityException("User not authenticated");
+        }
+        int balanceYear = year != null ? year : LocalDate.now().getYear();
+        return ResponseEntity.ok(leaveBalanceService.findForEmployee(userInfo.getEmployeeId(), balanceYear));
+    }
+
+    @PostMapping("/reconcile")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Reconcile leave balances", description = "Correct every balance that has drifted from leave request history; returns the number corrected, or 409 while another reconciliation is running (HR only)")
+    public ResponseEntity<Map<String, Integer>> reconcile() {
+        return leaveBalanceService.reconcile()
+                .map(corrected -> ResponseEntity.ok(Map.of("corrected", corrected)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
@@ -1,9 +1,17 @@
 package com.hrservice.hrservice.controller;
 
 import com.hrservice.hrservice.annotation.RequiresRole;
+import com.hrservice.hrservice.dto.CursorPage;
 import com.hrservice.hrservice.dto.LeaveApprovalDto;
+import com.hrservice.hrservice.dto.LeaveBatchApprovalDto;
+import com.hrservice.hrservice.dto.LeaveBatchResult;
+import com.hrservice.hrservice.dto.LeaveImportReport;
 import com.hrservice.hrservice.dto.LeaveRequestDto;
+import com.hrservice.hrservice.dto.LeaveRequestFilter;
+import com.hrservice.hrservice.dto.LeaveRequestView;
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.service.LeaveImportService;
 import com.hrservice.hrservice.service.LeaveRequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,11 +21,19 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/leave-requests")
@@ -27,29 +43,89 @@ import java.util.List;
 public class LeaveRequestController {
 
     private final LeaveRequestService leaveRequestService;
+    private final LeaveImportService leaveImportService;
 
     @GetMapping
     @RequiresRole({"hr", "hod"})
-    public ResponseEntity<List<LeaveRequest>> getAllLeaveRequests() {
-        return ResponseEntity.ok(leaveRequestService.findAll());
+    @Operation(summary = "List leave requests", description = "Keyset-paginated list ordered by id; pass nextCursor back as cursor for the next page")
+    public ResponseEntity<CursorPage<LeaveRequestView>> getAllLeaveRequests(
+            @ParameterObject LeaveRequestFilter filter,
+            @Parameter(description = "Id of the last request of the previous page") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(defaultValue = "100") int limit,
+            WebRequest webRequest) {
+        // Versioned over the returned page: a 304 still runs the keyset query, but nothing scans the
+        // whole filtered set, and a page only revalidates when one of its own rows changes
+        CursorPage<LeaveRequestView> leaveRequests = leaveRequestService.findPage(filter, cursor, limit);
+        if (ConditionalGet.listNotModified(webRequest, leaveRequestService.versionOf(leaveRequests))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE).body(leaveRequests);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Export leave requests", description = "Streams every matching leave request as newline-delimited JSON (HR only)")
+    public ResponseEntity<StreamingResponseBody> exportLeaveRequests(@ParameterObject LeaveRequestFilter filter) {
+        StreamingResponseBody body = out -> leaveRequestService.exportNdjson(filter, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @RequiresRole({"hr"})
+    @Operation(summary = "Import leave requests", description = "Bulk-load historical leave requests from CSV (header row) or NDJSON, validated against existing leave types and departments (HR only). Returns throughput and per-row errors.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see the report for failed rows"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only HR can import leave requests")
+    })
+    public ResponseEntity<LeaveImportReport> importLeaveRequests(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        LeaveImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? LeaveImportService.Format.NDJSON
+                : LeaveImportService.Format.CSV;
+        return ResponseEntity.ok(leaveImportService.importLeaveRequests(body, format));
     }
 
     @GetMapping("/my-leaves")
     @RequiresRole({"hr", "hod", "employee"})
-    public ResponseEntity<List<LeaveRequest>> getMyLeaveRequests() {
-        return ResponseEntity.ok(leaveRequestService.findMyLeaveRequests());
+    public ResponseEntity<List<LeaveRequestView>> getMyLeaveRequests(WebRequest webRequest) {
+        if (ConditionalGet.listNotModified(webRequest, leaveRequestService.myLeaveRequestsVersion())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE)
+                .body(leaveRequestService.findMyLeaveRequests());
     }
 
     @GetMapping("/pending")
     @RequiresRole({"hod"})
-    public ResponseEntity<List<LeaveRequest>> getPendingLeaveRequests() {
-        return ResponseEntity.ok(leaveRequestService.findPendingForHod());
+    public ResponseEntity<List<LeaveRequestView>> getPendingLeaveRequests(
+            @Parameter(description = "Zero-based page index") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 500)") @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        if (ConditionalGet.listNotModified(webRequest, leaveRequestService.pendingForHodVersion())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE)
+                .body(leaveRequestService.findPendingForHod(page, size));
+    }
+
+    @PostMapping("/backfill-departments")
+    @RequiresRole({"hr"})
+    @Operation(summary = "Backfill request departments", description = "Set department_id on leave requests created before it was recorded, using department membership from auth-service (HR only)")
+    public ResponseEntity<Map<String, Integer>> backfillDepartments() {
+        return ResponseEntity.ok(Map.of("updated", leaveRequestService.backfillDepartmentIds()));
     }
 
     @GetMapping("/{id}")
     @RequiresRole({"hr", "hod", "employee"})
-    public ResponseEntity<LeaveRequest> getLeaveRequest(@PathVariable Long id) {
-        return ResponseEntity.ok(leaveRequestService.findById(id));
+    public ResponseEntity<LeaveRequestView> getLeaveRequest(@PathVariable Long id, WebRequest webRequest) {
+        // Checked before the view is loaded, so a 304 costs only the version lookup
+        if (ConditionalGet.notModified(webRequest, leaveRequestService.versionOf(id))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE).body(leaveRequestService.findById(id));
     }
 
     @PostMapping
@@ -60,9 +136,21 @@ public class LeaveRequestController {
             @ApiResponse(responseCode = "400", description = "Invalid input or overlapping leave exists"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Only employees can create leave requests")
     })
-    public ResponseEntity<LeaveRequest> createLeaveRequest(@Valid @RequestBody LeaveRequestDto leaveRequestDto) {
+    public ResponseEntity<LeaveRequestView> createLeaveRequest(@Valid @RequestBody LeaveRequestDto leaveRequestDto) {
         LeaveRequest leaveRequest = leaveRequestService.create(leaveRequestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(leaveRequest);
+        return ResponseEntity.status(HttpStatus.CREATED).body(LeaveRequestView.from(leaveRequest));
+    }
+
+    @PutMapping("/approve-reject")
+    @RequiresRole({"hod"})
+    @Operation(summary = "Approve or reject leave requests in bulk", description = "Approve or reject up to 500 leave requests of your department in one transaction (HOD only). Each item reports its own outcome; approvals are checked for overlaps against existing leaves and each other.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only HOD can approve/reject leave requests")
+    })
+    public ResponseEntity<LeaveBatchResult> approveOrRejectLeaveRequests(@Valid @RequestBody LeaveBatchApprovalDto batch) {
+        return ResponseEntity.ok(leaveRequestService.approveOrRejectBatch(batch));
     }
 
     @PutMapping("/{id}/approve-reject")
@@ -74,11 +162,11 @@ public class LeaveRequestController {
             @ApiResponse(responseCode = "403", description = "Forbidden - Only HOD can approve/reject leave requests"),
             @ApiResponse(responseCode = "404", description = "Leave request not found")
     })
-    public ResponseEntity<LeaveRequest> approveOrRejectLeaveRequest(
+    public ResponseEntity<LeaveRequestView> approveOrRejectLeaveRequest(
             @Parameter(description = "Leave request ID") @PathVariable Long id,
             @Valid @RequestBody LeaveApprovalDto approvalDto) {
         LeaveRequest leaveRequest = leaveRequestService.approveOrReject(id, approvalDto);
-        return ResponseEntity.ok(leaveRequest);
+        return ResponseEntity.ok(LeaveRequestView.from(leaveRequest));
     }
 }
 
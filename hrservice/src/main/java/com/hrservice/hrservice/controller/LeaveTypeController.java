@@ -2,6 +2,7 @@ package com.hrservice.hrservice.controller;
 
 import com.hrservice.hrservice.annotation.RequiresRole;
 import com.hrservice.hrservice.dto.LeaveTypeDto;
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.entity.LeaveType;
 import com.hrservice.hrservice.service.LeaveTypeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,16 +31,26 @@ public class LeaveTypeController {
 
     @GetMapping
     @RequiresRole({"hr", "hod", "employee"})
-    public ResponseEntity<List<LeaveType>> getAllLeaveTypes() {
-        return ResponseEntity.ok(leaveTypeService.findAll());
+    public ResponseEntity<List<LeaveType>> getAllLeaveTypes(WebRequest webRequest) {
+        // Versioned from the list it returns, so the tag can never be newer than the body
+        List<LeaveType> leaveTypes = leaveTypeService.findAll();
+        if (ConditionalGet.listNotModified(webRequest, ResourceVersion.ofRows(leaveTypes, LeaveType::getId, LeaveType::getUpdatedAt))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE).body(leaveTypes);
     }
 
     @GetMapping("/{id}")
     @RequiresRole({"hr", "hod", "employee"})
-    public ResponseEntity<LeaveType> getLeaveType(@PathVariable Long id) {
-        return leaveTypeService.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<LeaveType> getLeaveType(@PathVariable Long id, WebRequest webRequest) {
+        LeaveType leaveType = leaveTypeService.findById(id).orElse(null);
+        if (leaveType == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalGet.notModified(webRequest, ResourceVersion.of(leaveType.getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ConditionalGet.REVALIDATE).body(leaveType);
     }
 
     @PostMapping
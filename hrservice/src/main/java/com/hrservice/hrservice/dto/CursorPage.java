@@ -0,0 +1,14 @@
+package com.hrservice.hrservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    // Pass back as ?cursor= to get the next page; null on the last page
+    private Long nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.hrservice.hrservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LeaveBalanceView {
+    private Long leaveTypeId;
+    private String leaveTypeName;
+    private int year;
+    private Integer maxDaysPerYear; // null when the leave type has no yearly allowance
+    private int approvedDays;
+    private int pendingDays;
+    private Integer remainingDays; // maxDaysPerYear - approved - pending; null without an allowance
+}
@@ -0,0 +1,24 @@
+package com.hrservice.hrservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LeaveBatchApprovalDto {
+
+    @NotEmpty(message = "At least one leave request is required")
+    private List<@Valid Item> items;
+
+    @Data
+    public static class Item {
+        @NotNull(message = "Leave request ID is required")
+        private Long id;
+
+        private String action; // "approve" or "reject"
+        private String rejectionReason;
+    }
+}
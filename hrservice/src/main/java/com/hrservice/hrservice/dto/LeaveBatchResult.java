@@ -0,0 +1,33 @@
+package com.hrservice.hrservice.dto;
+
+import com.hrservice.hrservice.entity.LeaveRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LeaveBatchResult {
+    private int succeeded;
+    private int failed;
+    // Same order as the submitted items
+    private List<ItemResult> results;
+
+    @Data
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long id;
+        private boolean success;
+        private LeaveRequest.Status status; // status after the batch; null if the request was not found
+        private String error;
+
+        public static ItemResult ok(LeaveRequest leaveRequest) {
+            return new ItemResult(leaveRequest.getId(), true, leaveRequest.getStatus(), null);
+        }
+
+        public static ItemResult failed(Long id, LeaveRequest leaveRequest, String error) {
+            return new ItemResult(id, false, leaveRequest != null ? leaveRequest.getStatus() : null, error);
+        }
+    }
+}
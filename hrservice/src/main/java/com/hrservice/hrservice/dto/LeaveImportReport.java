@@ -0,0 +1,25 @@
+package com.hrservice.hrservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LeaveImportReport {
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    // Capped at leave-import.max-reported-errors; failed holds the full count
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long row; // 1-based data row, header excluded
+        private String message;
+    }
+}
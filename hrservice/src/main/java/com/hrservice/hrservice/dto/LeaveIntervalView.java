@@ -0,0 +1,11 @@
+package com.hrservice.hrservice.dto;
+
+import java.time.LocalDate;
+
+// Minimal read of an active leave request for the in-memory leave calendar
+public interface LeaveIntervalView {
+    Long getId();
+    Long getDepartmentId();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+}
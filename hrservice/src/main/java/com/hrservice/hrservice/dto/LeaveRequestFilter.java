@@ -0,0 +1,20 @@
+package com.hrservice.hrservice.dto;
+
+import com.hrservice.hrservice.entity.LeaveRequest;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+public class LeaveRequestFilter {
+    private LeaveRequest.Status status;
+    private Long leaveTypeId;
+
+    // Requests whose period intersects [from, to]; either bound may be omitted
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
@@ -0,0 +1,49 @@
+package com.hrservice.hrservice.dto;
+
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Flat read model of a leave request; list queries build it with a single join
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveRequestView {
+    private Long id;
+    private String employeeId;
+    private Long departmentId;
+    private Long leaveTypeId;
+    private String leaveTypeName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String reason;
+    private LeaveRequest.Status status;
+    private String approvedBy;
+    private String rejectionReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static LeaveRequestView from(LeaveRequest leaveRequest) {
+        LeaveType leaveType = leaveRequest.getLeaveType();
+        return new LeaveRequestView(
+                leaveRequest.getId(),
+                leaveRequest.getEmployeeId(),
+                leaveRequest.getDepartmentId(),
+                leaveType != null ? leaveType.getId() : null,
+                leaveType != null ? leaveType.getName() : null,
+                leaveRequest.getStartDate(),
+                leaveRequest.getEndDate(),
+                leaveRequest.getReason(),
+                leaveRequest.getStatus(),
+                leaveRequest.getApprovedBy(),
+                leaveRequest.getRejectionReason(),
+                leaveRequest.getCreatedAt(),
+                leaveRequest.getUpdatedAt()
+        );
+    }
+}
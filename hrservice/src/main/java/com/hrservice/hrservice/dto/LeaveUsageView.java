@@ -0,0 +1,14 @@
+package com.hrservice.hrservice.dto;
+
+import com.hrservice.hrservice.entity.LeaveRequest;
+
+import java.time.LocalDate;
+
+// Fields of a pending or approved leave request that count against a balance, for ledger reconciliation
+public interface LeaveUsageView {
+    String getEmployeeId();
+    Long getLeaveTypeId();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    LeaveRequest.Status getStatus();
+}
@@ -0,0 +1,63 @@
+package com.hrservice.hrservice.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+
+// Validator for conditional GETs: row count plus the newest updatedAt of a resource or collection.
+// A delete lowers the count, an insert or update moves the max, so either changes the tag.
+@Getter
+public class ResourceVersion {
+
+    private final String tag;
+    // Epoch millis for Last-Modified; -1 when the collection is empty
+    private final long lastModified;
+
+    public ResourceVersion(Long count, LocalDateTime maxUpdatedAt) {
+        long micros = -1;
+        long millis = -1;
+        if (maxUpdatedAt != null) {
+            var instant = maxUpdatedAt.atZone(ZoneId.systemDefault()).toInstant();
+            micros = instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+            millis = instant.toEpochMilli();
+        }
+        this.tag = (count != null ? count : 0L) + "-" + micros;
+        this.lastModified = millis;
+    }
+
+    private ResourceVersion(String tag, long lastModified) {
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    public static ResourceVersion of(LocalDateTime updatedAt) {
+        return new ResourceVersion(1L, updatedAt);
+    }
+
+    // Version of exactly the rows a response returns: their ids and updatedAt in order, so an insert,
+    // update or delete among them changes the tag and rows outside the response do not
+    public static <T> ResourceVersion ofRows(List<T> rows, Function<T, Long> id, Function<T, LocalDateTime> updatedAt) {
+        long hash = 1;
+        LocalDateTime newest = null;
+        for (T row : rows) {
+            LocalDateTime rowUpdatedAt = updatedAt.apply(row);
+            hash = 31 * hash + id.apply(row);
+            hash = 31 * hash + (rowUpdatedAt != null ? rowUpdatedAt.hashCode() : 0);
+            newest = rowUpdatedAt != null && (newest == null || rowUpdatedAt.isAfter(newest)) ? rowUpdatedAt : newest;
+        }
+        ResourceVersion max = new ResourceVersion((long) rows.size(), newest);
+        return new ResourceVersion(max.tag + "-" + Long.toHexString(hash), max.lastModified);
+    }
+
+    // For responses that embed data owned by another table (e.g. leave type names in leave requests)
+    public ResourceVersion and(ResourceVersion other) {
+        return new ResourceVersion(tag + "." + other.tag, Math.max(lastModified, other.lastModified));
+    }
+
+    public String getETag() {
+        return "W/\"" + tag + "\"";
+    }
+}
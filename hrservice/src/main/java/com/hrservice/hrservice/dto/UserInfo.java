@@ -1,6 +1,10 @@
 package com.hrservice.hrservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hrservice.hrservice.security.Role;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 @Data
 public class UserInfo {
@@ -10,5 +14,14 @@ public class UserInfo {
     private String role;
     private Integer departmentId;
     private Boolean isActive;
-}
 
+    // Role as a bit (see Role), parsed whenever role is set, i.e. once per token validation
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private int roleMask;
+
+    public void setRole(String role) {
+        this.role = role;
+        this.roleMask = Role.maskOf(role);
+    }
+}
@@ -2,12 +2,18 @@ package com.hrservice.hrservice.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "departments")
+@Table(name = "departments", indexes = {
+        @Index(name = "idx_departments_hod_employee_id", columnList = "hod_employee_id")
+})
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Department {
 
     @Id
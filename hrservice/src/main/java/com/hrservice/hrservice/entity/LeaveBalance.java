@@ -0,0 +1,37 @@
+package com.hrservice.hrservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// Days of one leave type an employee has pending and approved in a calendar year.
+// Written only through LeaveBalanceRepository.adjust and the reconciliation job.
+@Entity
+@Table(name = "leave_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_leave_balances_employee_type_year", columnNames = {"employee_id", "leave_type_id", "leave_year"})
+})
+@Data
+public class LeaveBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private String employeeId;
+
+    @Column(name = "leave_type_id", nullable = false)
+    private Long leaveTypeId;
+
+    @Column(name = "leave_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "pending_days", nullable = false)
+    private Integer pendingDays = 0;
+
+    @Column(name = "approved_days", nullable = false)
+    private Integer approvedDays = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
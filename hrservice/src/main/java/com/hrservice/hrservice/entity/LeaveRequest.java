@@ -6,7 +6,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leave_requests")
+@Table(name = "leave_requests", indexes = {
+        @Index(name = "idx_leave_requests_employee_status_dates", columnList = "employee_id, status, start_date, end_date"),
+        @Index(name = "idx_leave_requests_status_start", columnList = "status, start_date"),
+        @Index(name = "idx_leave_requests_department_status_dates", columnList = "department_id, status, start_date, end_date"),
+        @Index(name = "idx_leave_requests_employee_updated", columnList = "employee_id, updated_at"),
+        @Index(name = "idx_leave_requests_department_status_updated", columnList = "department_id, status, updated_at")
+})
 @Data
 public class LeaveRequest {
 
@@ -21,6 +27,9 @@ public class LeaveRequest {
     @Column(name = "employee_id", nullable = false)
     private String employeeId; // References Auth Service
 
+    @Column(name = "department_id")
+    private Long departmentId; // Requester's department when the request was created
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "leave_type_id")
     private LeaveType leaveType;
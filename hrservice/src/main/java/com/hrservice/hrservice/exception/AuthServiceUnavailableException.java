@@ -0,0 +1,14 @@
+package com.hrservice.hrservice.exception;
+
+// auth-service could not answer in time, or refused a lookup hrservice needs; mapped to 503 so callers
+// can retry instead of seeing a 400/403
+public class AuthServiceUnavailableException extends RuntimeException {
+
+    public AuthServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public AuthServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
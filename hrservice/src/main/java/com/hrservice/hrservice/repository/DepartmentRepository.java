@@ -1,10 +1,21 @@
 package com.hrservice.hrservice.repository;
 
 import com.hrservice.hrservice.entity.Department;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByName(String name);
+
+    Optional<Department> findFirstByHodEmployeeId(String hodEmployeeId);
+
+    // SELECT ... FOR UPDATE: serialises leave check-then-write per department until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Department d WHERE d.id = :id")
+    Optional<Department> findByIdForUpdate(@Param("id") Long id);
 }
 
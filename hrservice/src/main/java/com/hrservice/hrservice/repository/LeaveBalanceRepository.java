@@ -0,0 +1,31 @@
+package com.hrservice.hrservice.repository;
+
+import com.hrservice.hrservice.entity.LeaveBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+import java.util.Optional;
+
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+
+    Optional<LeaveBalance> findByEmployeeIdAndLeaveTypeIdAndYear(String employeeId, Long leaveTypeId, Integer year);
+
+    List<LeaveBalance> findByEmployeeIdAndYear(String employeeId, Integer year);
+
+    // Single-statement upsert: the row is created on first use and the counters move atomically
+    @Modifying
+    @Query(value = "INSERT INTO leave_balances (employee_id, leave_type_id, leave_year, pending_days, approved_days, updated_at) " +
+            "VALUES (:employeeId, :leaveTypeId, :year, :pendingDelta, :approvedDelta, CURRENT_TIMESTAMP(6)) " +
+            "ON DUPLICATE KEY UPDATE pending_days = pending_days + VALUES(pending_days), " +
+            "approved_days = approved_days + VALUES(approved_days), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void adjust(
+            @Param("employeeId") String employeeId,
+            @Param("leaveTypeId") Long leaveTypeId,
+            @Param("year") int year,
+            @Param("pendingDelta") int pendingDelta,
+            @Param("approvedDelta") int approvedDelta
+    );
+}
@@ -1,28 +1,154 @@
 package com.hrservice.hrservice.repository;
 
+import com.hrservice.hrservice.dto.LeaveIntervalView;
+import com.hrservice.hrservice.dto.LeaveRequestView;
+import com.hrservice.hrservice.dto.LeaveUsageView;
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.entity.LeaveRequest;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long> {
 
+    // One query per call: the leave type name comes from a join instead of a lazy proxy
+    String VIEW = "SELECT new com.hrservice.hrservice.dto.LeaveRequestView(" +
+            "lr.id, lr.employeeId, lr.departmentId, lt.id, lt.name, lr.startDate, lr.endDate, lr.reason, " +
+            "lr.status, lr.approvedBy, lr.rejectionReason, lr.createdAt, lr.updatedAt) " +
+            "FROM LeaveRequest lr LEFT JOIN lr.leaveType lt ";
+
+    String FILTER = "AND (:status IS NULL OR lr.status = :status) " +
+            "AND (:leaveTypeId IS NULL OR lt.id = :leaveTypeId) " +
+            "AND (:from IS NULL OR lr.endDate >= :from) " +
+            "AND (:to IS NULL OR lr.startDate <= :to) ";
+
+    // Authorises in the same statement: the caller's cached departmentId may no longer be theirs
+    String HEADED_BY = " AND EXISTS (SELECT d.id FROM Department d " +
+            "WHERE d.id = lr.departmentId AND d.hodEmployeeId = :hodEmployeeId)";
+
+    // Collection versions for conditional GETs: one aggregate row, no entities loaded
+    String VERSION = "SELECT new com.hrservice.hrservice.dto.ResourceVersion(COUNT(lr), MAX(lr.updatedAt)) " +
+            "FROM LeaveRequest lr LEFT JOIN lr.leaveType lt ";
+
     List<LeaveRequest> findByEmployeeId(String employeeId);
 
     // Find by status
     List<LeaveRequest> findByStatus(LeaveRequest.Status status);
-    
-    // Find overlapping approved or pending leave requests for employees in the same department
-    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.employeeId IN :employeeIds " +
+
+    @Query(VIEW + "WHERE lr.id = :id")
+    Optional<LeaveRequestView> findViewById(@Param("id") Long id);
+
+    @Query(VERSION + "WHERE lr.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @Query(VIEW + "WHERE lr.employeeId = :employeeId ORDER BY lr.id")
+    List<LeaveRequestView> findViewsByEmployeeId(@Param("employeeId") String employeeId);
+
+    @Query(VERSION + "WHERE lr.employeeId = :employeeId")
+    ResourceVersion findVersionByEmployeeId(@Param("employeeId") String employeeId);
+
+    // Page of requests with the given status in a department, empty unless hodEmployeeId is still its HOD
+    @Query(VIEW + "WHERE lr.departmentId = :departmentId AND lr.status = :status" + HEADED_BY + " ORDER BY lr.id")
+    List<LeaveRequestView> findViewsByDepartmentIdAndStatusForHod(
+            @Param("departmentId") Long departmentId,
+            @Param("hodEmployeeId") String hodEmployeeId,
+            @Param("status") LeaveRequest.Status status,
+            Pageable pageable
+    );
+
+    @Query(VERSION + "WHERE lr.departmentId = :departmentId AND lr.status = :status" + HEADED_BY)
+    ResourceVersion findVersionByDepartmentIdAndStatusForHod(
+            @Param("departmentId") Long departmentId,
+            @Param("hodEmployeeId") String hodEmployeeId,
+            @Param("status") LeaveRequest.Status status
+    );
+
+    // Whether any approved or pending leave in the department overlaps the period (department_id, status, dates index)
+    @Query("SELECT CASE WHEN COUNT(lr) > 0 THEN true ELSE false END FROM LeaveRequest lr " +
+            "WHERE lr.departmentId = :departmentId " +
             "AND lr.status IN ('APPROVED', 'PENDING') " +
             "AND lr.id != :excludeId " +
             "AND ((lr.startDate <= :endDate AND lr.endDate >= :startDate))")
-    List<LeaveRequest> findOverlappingLeaves(
-            @Param("employeeIds") List<String> employeeIds,
+    boolean existsOverlappingLeave(
+            @Param("departmentId") Long departmentId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("excludeId") Long excludeId
     );
+
+    // Active leaves that have not ended yet, for the in-memory leave calendar
+    @Query("SELECT lr.id AS id, lr.departmentId AS departmentId, lr.startDate AS startDate, lr.endDate AS endDate " +
+            "FROM LeaveRequest lr WHERE lr.departmentId IS NOT NULL AND lr.status IN ('APPROVED', 'PENDING') " +
+            "AND lr.endDate >= :from")
+    List<LeaveIntervalView> findActiveIntervals(@Param("from") LocalDate from);
+
+    // Active leaves of one department intersecting [from, to], for checking a batch of approvals in one pass
+    @Query("SELECT lr.id AS id, lr.departmentId AS departmentId, lr.startDate AS startDate, lr.endDate AS endDate " +
+            "FROM LeaveRequest lr WHERE lr.departmentId = :departmentId AND lr.status IN ('APPROVED', 'PENDING') " +
+            "AND lr.startDate <= :to AND lr.endDate >= :from")
+    List<LeaveIntervalView> findActiveIntervalsInDepartment(
+            @Param("departmentId") Long departmentId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    // Balance-relevant requests for ledger reconciliation; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT lr.employeeId AS employeeId, lt.id AS leaveTypeId, lr.startDate AS startDate, " +
+            "lr.endDate AS endDate, lr.status AS status " +
+            "FROM LeaveRequest lr JOIN lr.leaveType lt " +
+            "WHERE lr.status IN ('APPROVED', 'PENDING')")
+    Stream<LeaveUsageView> streamUsage();
+
+    // Keyset page: rows after the cursor id, so deep pages cost the same as the first one
+    @Query(VIEW + "WHERE lr.id > :afterId " +
+            FILTER +
+            "ORDER BY lr.id")
+    List<LeaveRequestView> findViewPageAfter(
+            @Param("afterId") Long afterId,
+            @Param("status") LeaveRequest.Status status,
+            @Param("leaveTypeId") Long leaveTypeId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            Pageable pageable
+    );
+
+    // Forward-only cursor over the filtered rows as unmanaged views; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query(VIEW + "WHERE 1 = 1 " +
+            FILTER +
+            "ORDER BY lr.id")
+    Stream<LeaveRequestView> streamViews(
+            @Param("status") LeaveRequest.Status status,
+            @Param("leaveTypeId") Long leaveTypeId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    boolean existsByDepartmentIdIsNull();
+
+    long countByDepartmentIdIsNull();
+
+    @Query("SELECT lr.id FROM LeaveRequest lr WHERE lr.departmentId IS NULL ORDER BY lr.id")
+    List<Long> findIdsByDepartmentIdIsNull(Pageable pageable);
+
+    // Backfill for rows created before department_id existed; bumps updatedAt so cached views revalidate
+    @Modifying
+    @Query("UPDATE LeaveRequest lr SET lr.departmentId = :departmentId, lr.updatedAt = :now " +
+            "WHERE lr.departmentId IS NULL AND lr.employeeId IN :employeeIds")
+    int assignDepartment(
+            @Param("departmentId") Long departmentId,
+            @Param("employeeIds") Collection<String> employeeIds,
+            @Param("now") LocalDateTime now
+    );
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.hrservice.hrservice.repository;
 
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.entity.LeaveType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.Optional;
 
 public interface LeaveTypeRepository extends JpaRepository<LeaveType, Long> {
     Optional<LeaveType> findByName(String name);
+
+    @Query("SELECT new com.hrservice.hrservice.dto.ResourceVersion(COUNT(lt), MAX(lt.updatedAt)) FROM LeaveType lt")
+    ResourceVersion findVersion();
 }
\ No newline at end of file
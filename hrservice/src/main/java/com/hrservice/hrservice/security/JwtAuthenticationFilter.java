@@ -1,28 +1,32 @@
 package com.hrservice.hrservice.security;
 
+import com.hrservice.hrservice.config.JwtConfig;
 import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.exception.AuthServiceUnavailableException;
 import com.hrservice.hrservice.service.AuthServiceClient;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthServiceClient authServiceClient;
-    private static final ThreadLocal<String> tokenHolder = new ThreadLocal<>();
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final JwtConfig jwtConfig;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,33 +43,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
-        try {
-            String authHeader = request.getHeader("Authorization");
+        String authHeader = request.getHeader("Authorization");
 
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                tokenHolder.set(token);
-                UserInfo userInfo = authServiceClient.validateToken(token);
-
-                if (userInfo != null && userInfo.getIsActive()) {
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userInfo,
-                            token, // Store token in credentials
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole().toUpperCase()))
-                    );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            String token = authHeader.substring(7);
+            UserInfo userInfo;
+            try {
+                userInfo = resolveUser(token);
+            } catch (AuthServiceUnavailableException e) {
+                // Not the caller's fault, so not a 401; runs before the controller advice can map it
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"" + e.getMessage() + "\"}");
+                return;
             }
 
-            filterChain.doFilter(request, response);
-        } finally {
-            tokenHolder.remove();
+            if (userInfo != null && Boolean.TRUE.equals(userInfo.getIsActive())) {
+                // The token travels with the request's Authentication (credentials) rather than a
+                // thread-local, so it is never tied to a pooled or virtual carrier thread
+                Role role = Role.of(userInfo.getRole());
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        userInfo,
+                        token, // Store token in credentials
+                        role != null ? role.authorities() : List.of()
+                );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
+
+        filterChain.doFilter(request, response);
     }
 
-    public static String getCurrentToken() {
-        return tokenHolder.get();
+    private UserInfo resolveUser(String token) {
+        if (!jwtTokenVerifier.isEnabled()) {
+            return authServiceClient.validateToken(token);
+        }
+
+        UserInfo userInfo = jwtTokenVerifier.verify(token);
+        if (userInfo == null && jwtConfig.isRemoteFallback()) {
+            return authServiceClient.validateToken(token);
+        }
+        return userInfo;
     }
 }
 
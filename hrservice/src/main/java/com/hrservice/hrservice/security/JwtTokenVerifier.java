@@ -0,0 +1,56 @@
+package com.hrservice.hrservice.security;
+
+import com.hrservice.hrservice.config.JwtConfig;
+import com.hrservice.hrservice.dto.UserInfo;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class JwtTokenVerifier {
+
+    private final JwtParser parser;
+
+    public JwtTokenVerifier(JwtConfig jwtConfig) {
+        // Build the parser once; it is thread-safe and reused for every request
+        this.parser = jwtConfig.isLocalVerification()
+                ? Jwts.parser()
+                        .verifyWith(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8)))
+                        .build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return parser != null;
+    }
+
+    // Checks signature and expiry, then maps the auth-service claims to UserInfo; null if invalid
+    public UserInfo verify(String token) {
+        if (parser == null) {
+            return null;
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return toUserInfo(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private UserInfo toUserInfo(Claims claims) {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setId(claims.getSubject());
+        userInfo.setEmployeeId(claims.get("employeeId", String.class));
+        userInfo.setEmail(claims.get("email", String.class));
+        userInfo.setRole(claims.get("role", String.class));
+        Number departmentId = claims.get("departmentId", Number.class);
+        userInfo.setDepartmentId(departmentId != null ? departmentId.intValue() : null);
+        userInfo.setIsActive(claims.get("isActive", Boolean.class));
+        return userInfo;
+    }
+}
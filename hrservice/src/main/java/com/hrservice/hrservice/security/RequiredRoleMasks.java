@@ -0,0 +1,66 @@
+package com.hrservice.hrservice.security;
+
+import com.hrservice.hrservice.annotation.RequiresRole;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Role masks of every @RequiresRole on a controller, resolved once at startup. Keyed by the
+// annotation instance the JDK caches per method, so a lookup is an identity hash probe that
+// neither hashes the annotation's values nor allocates.
+@Component
+public class RequiredRoleMasks implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+
+    // Replaced, never mutated, so readers need no lock
+    private volatile Map<RequiresRole, Integer> masks = new IdentityHashMap<>();
+
+    public RequiredRoleMasks(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<RequiresRole, Integer> resolved = new IdentityHashMap<>();
+        for (String beanName : beanFactory.getBeanNamesForAnnotation(Controller.class)) {
+            Class<?> type = beanFactory.getType(beanName);
+            if (type == null) {
+                continue;
+            }
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(type), method -> {
+                RequiresRole requiresRole = method.getAnnotation(RequiresRole.class);
+                if (requiresRole != null) {
+                    resolved.put(requiresRole, Role.maskOf(requiresRole.value()));
+                }
+            });
+        }
+        masks = resolved;
+    }
+
+    public int maskOf(RequiresRole requiresRole) {
+        Integer mask = masks.get(requiresRole);
+        if (mask != null) {
+            return mask;
+        }
+        return resolve(requiresRole);
+    }
+
+    // An annotation instance not seen at startup (e.g. on a non-controller bean): resolve and keep it
+    private synchronized int resolve(RequiresRole requiresRole) {
+        Integer mask = masks.get(requiresRole);
+        if (mask == null) {
+            Map<RequiresRole, Integer> copy = new IdentityHashMap<>(masks);
+            mask = Role.maskOf(requiresRole.value());
+            copy.put(requiresRole, mask);
+            masks = copy;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hrservice.hrservice.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+// The auth-service roles as bits, so a role check is one AND. Role names are matched
+// case-insensitively, as @RequiresRole and the tokens always have been.
+public enum Role {
+    EMPLOYEE,
+    HOD,
+    HR;
+
+    // values() clones its array on every call
+    private static final Role[] ROLES = values();
+
+    private final int mask = 1 << ordinal();
+    private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + name()));
+
+    public int mask() {
+        return mask;
+    }
+
+    // Shared, immutable authority list for a user with this role
+    public List<GrantedAuthority> authorities() {
+        return authorities;
+    }
+
+    // 0 for a null or unknown role, which then matches no requirement
+    public static int maskOf(String name) {
+        Role role = of(name);
+        return role != null ? role.mask : 0;
+    }
+
+    public static int maskOf(String[] names) {
+        int mask = 0;
+        for (String name : names) {
+            mask |= maskOf(name);
+        }
+        return mask;
+    }
+
+    public static Role of(String name) {
+        if (name != null) {
+            for (Role role : ROLES) {
+                if (role.name().equalsIgnoreCase(name)) {
+                    return role;
+                }
+            }
+        }
+        return null;
+    }
+}
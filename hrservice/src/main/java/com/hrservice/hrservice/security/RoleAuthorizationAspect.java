@@ -2,7 +2,8 @@ package com.hrservice.hrservice.security;
 
 import com.hrservice.hrservice.annotation.RequiresRole;
 import com.hrservice.hrservice.dto.UserInfo;
-import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -10,30 +11,41 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
+// The check is one AND of the caller's role mask (parsed with the token) against the endpoint's
+// mask (resolved at startup); a granted call allocates nothing, metrics included
 @Aspect
 @Component
 public class RoleAuthorizationAspect {
 
+    private final RequiredRoleMasks requiredRoleMasks;
+    private final Timer granted;
+    private final Timer denied;
+    private final Timer unauthenticated;
+
+    public RoleAuthorizationAspect(RequiredRoleMasks requiredRoleMasks, MeterRegistry meterRegistry) {
+        this.requiredRoleMasks = requiredRoleMasks;
+        // Timed as security.role.check{outcome=granted|denied|unauthenticated}
+        this.granted = meterRegistry.timer("security.role.check", "outcome", "granted");
+        this.denied = meterRegistry.timer("security.role.check", "outcome", "denied");
+        this.unauthenticated = meterRegistry.timer("security.role.check", "outcome", "unauthenticated");
+    }
+
     @Before("@annotation(requiresRole)")
     public void checkRole(JoinPoint joinPoint, RequiresRole requiresRole) {
+        long started = System.nanoTime();
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserInfo)) {
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserInfo userInfo)) {
+            unauthenticated.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             throw new SecurityException("Unauthorized");
         }
 
-        UserInfo userInfo = (UserInfo) authentication.getPrincipal();
-        String userRole = userInfo.getRole().toLowerCase();
-        String[] requiredRoles = requiresRole.value();
-
-        boolean hasRole = Arrays.stream(requiredRoles)
-                .anyMatch(role -> role.toLowerCase().equals(userRole));
-
-        if (!hasRole) {
+        if ((userInfo.getRoleMask() & requiredRoleMasks.maskOf(requiresRole)) == 0) {
+            denied.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             throw new SecurityException("Forbidden: Insufficient permissions");
         }
+        granted.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
     }
 }
-
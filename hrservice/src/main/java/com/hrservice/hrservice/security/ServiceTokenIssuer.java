@@ -0,0 +1,63 @@
+package com.hrservice.hrservice.security;
+
+import com.hrservice.hrservice.config.JwtConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+// Token hrservice presents to auth-service on its own behalf, for calls that outlive the request
+// that triggered them (shared caches, background refreshes). Signed with the shared secret as an
+// active HR user, and reissued shortly before it expires.
+@Component
+public class ServiceTokenIssuer {
+
+    private static final Duration REISSUE_BEFORE_EXPIRY = Duration.ofMinutes(1);
+
+    private final SecretKey key;
+    private final String employeeId;
+    private final Duration ttl;
+    private volatile Issued current;
+
+    public ServiceTokenIssuer(JwtConfig jwtConfig) {
+        this.key = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.employeeId = jwtConfig.getServiceEmployeeId();
+        this.ttl = jwtConfig.getServiceTokenTtl();
+    }
+
+    public String token() {
+        Issued issued = current;
+        if (issued == null || System.currentTimeMillis() >= issued.reissueAt()) {
+            synchronized (this) {
+                issued = current;
+                if (issued == null || System.currentTimeMillis() >= issued.reissueAt()) {
+                    issued = issue();
+                    current = issued;
+                }
+            }
+        }
+        return issued.token();
+    }
+
+    private Issued issue() {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttl.toMillis();
+        String token = Jwts.builder()
+                .subject(employeeId)
+                .claim("employeeId", employeeId)
+                .claim("role", "hr")
+                .claim("isActive", true)
+                .issuedAt(new Date(now))
+                .expiration(new Date(expiresAt))
+                .signWith(key)
+                .compact();
+        return new Issued(token, Math.max(now, expiresAt - REISSUE_BEFORE_EXPIRY.toMillis()));
+    }
+
+    private record Issued(String token, long reissueAt) {
+    }
+}
@@ -2,6 +2,7 @@ package com.hrservice.hrservice.service;
 
 import com.hrservice.hrservice.config.AuthServiceConfig;
 import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.exception.AuthServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -9,6 +10,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
@@ -19,43 +21,56 @@ public class AuthServiceClient {
 
     private final AuthServiceConfig authServiceConfig;
     private final RestTemplate restTemplate;
+    private final TokenValidationCache tokenValidationCache;
+    private final AuthServiceGuard authServiceGuard;
 
     public UserInfo validateToken(String token) {
+        return tokenValidationCache.get(token, this::fetchTokenValidation);
+    }
+
+    // Null for a token auth-service rejects; throws AuthServiceUnavailableException when it cannot be asked
+    private UserInfo fetchTokenValidation(String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<ValidateTokenResponse> response = restTemplate.exchange(
+            ValidateTokenResponse body = authServiceGuard.read("validateToken", () -> restTemplate.exchange(
                     authServiceConfig.getUrl() + "/auth/validate",
                     HttpMethod.GET,
                     entity,
                     ValidateTokenResponse.class
-            );
-            if (response.getBody() != null && response.getBody().getValid()) {
-                return response.getBody().getUser();
+            ).getBody());
+            if (body != null && Boolean.TRUE.equals(body.getValid())) {
+                return body.getUser();
             }
             return null;
-        } catch (Exception e) {
+        } catch (HttpClientErrorException e) {
             return null;
         }
     }
 
+    // An empty list only when auth-service answered so, or does not know the department (404). An outage
+    // or a rejected request (e.g. a misconfigured service token) throws rather than looking like an
+    // empty department, so it is never cached as one.
     public List<UserInfo> getUsersByDepartment(Long departmentId, String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<List<UserInfo>> response = restTemplate.exchange(
+            List<UserInfo> users = authServiceGuard.read("getUsersByDepartment", () -> restTemplate.exchange(
                     authServiceConfig.getUrl() + "/auth/users/department/" + departmentId,
                     HttpMethod.GET,
                     entity,
                     new ParameterizedTypeReference<List<UserInfo>>() {}
-            );
-            return response.getBody();
-        } catch (Exception e) {
+            ).getBody());
+            return users != null ? users : List.of();
+        } catch (HttpClientErrorException.NotFound e) {
             return List.of();
+        } catch (HttpClientErrorException e) {
+            throw new AuthServiceUnavailableException(
+                    "auth-service rejected the member lookup for department " + departmentId + ": " + e.getStatusCode(), e);
         }
     }
 
@@ -65,14 +80,13 @@ public class AuthServiceClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<UserInfo> response = restTemplate.exchange(
+            return authServiceGuard.read("getUserByEmployeeId", () -> restTemplate.exchange(
                     authServiceConfig.getUrl() + "/auth/users/employee/" + employeeId,
                     HttpMethod.GET,
                     entity,
                     UserInfo.class
-            );
-            return response.getBody();
-        } catch (Exception e) {
+            ).getBody());
+        } catch (HttpClientErrorException e) {
             return null;
         }
     }
@@ -0,0 +1,45 @@
+package com.hrservice.hrservice.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Deadline of the auth-service call running on this thread. AuthServiceGuard sets it around a call
+// (retries included) and RestTemplateConfig caps each HTTP attempt's timeouts to what is left.
+// Scoped to a try/finally on the calling thread, so nothing outlives the call.
+public final class AuthServiceDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private AuthServiceDeadline() {
+    }
+
+    static <T> T within(Duration budget, Supplier<T> call) {
+        Long previous = DEADLINE.get();
+        long deadline = System.nanoTime() + budget.toNanos();
+        // A nested call never gets more time than the call around it
+        DEADLINE.set(previous != null && previous - deadline < 0 ? previous : deadline);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                DEADLINE.set(previous);
+            } else {
+                DEADLINE.remove();
+            }
+        }
+    }
+
+    // Time left, or null outside a guarded call
+    public static Duration remaining() {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return null;
+        }
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    static boolean expired() {
+        Duration remaining = remaining();
+        return remaining != null && remaining.isZero();
+    }
+}
@@ -0,0 +1,151 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.config.AuthServiceConfig;
+import com.hrservice.hrservice.exception.AuthServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Every auth-service call goes through here: a concurrency bulkhead, a circuit breaker and, for
+// idempotent calls, retries with jittered exponential backoff, all inside one per-call deadline.
+// An outage surfaces as AuthServiceUnavailableException (503) instead of an empty answer; a 4xx
+// reply is a real answer and is passed through untouched, without counting against the breaker.
+// Metrics: resilience4j.circuitbreaker.*, resilience4j.bulkhead.*, resilience4j.retry.*,
+// auth.service.rejected{reason=circuit_open|bulkhead_full|deadline|unavailable} and
+// auth.service.client{method, outcome}, the caller-visible latency of each client method.
+@Component
+public class AuthServiceGuard {
+
+    private static final String NAME = "auth-service";
+    private static final String REJECTED = "auth.service.rejected";
+    private static final String CLIENT_TIMER = "auth.service.client";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final Duration deadline;
+    private final MeterRegistry meterRegistry;
+
+    public AuthServiceGuard(AuthServiceConfig authServiceConfig, MeterRegistry meterRegistry) {
+        AuthServiceConfig.Resilience config = authServiceConfig.getResilience();
+        this.deadline = config.getDeadline();
+        this.meterRegistry = meterRegistry;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallDurationThreshold(config.getSlowCallDuration())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .waitDurationInOpenState(config.getOpenStateWait())
+                .permittedNumberOfCallsInHalfOpenState(config.getHalfOpenCalls())
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                .maxWaitDuration(config.getBulkheadWait())
+                .build());
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(config.getMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(config.getRetryBackoff(), 2.0, 0.5))
+                .retryOnException(AuthServiceGuard::isTransient)
+                .build());
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.retry = retryRegistry.retry(NAME);
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+    }
+
+    // Reads (GET, and POST lookups without side effects) may be retried
+    public <T> T read(String method, Supplier<T> call) {
+        return execute(method, Retry.decorateSupplier(retry, guarded(call)));
+    }
+
+    // Everything else gets one attempt
+    public <T> T once(String method, Supplier<T> call) {
+        return execute(method, guarded(call));
+    }
+
+    private <T> Supplier<T> guarded(Supplier<T> call) {
+        Supplier<T> attempt = () -> {
+            if (AuthServiceDeadline.expired()) {
+                throw new DeadlineExceededException();
+            }
+            return call.get();
+        };
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, attempt));
+    }
+
+    private <T> T execute(String method, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return AuthServiceDeadline.within(deadline, call);
+        } catch (CallNotPermittedException e) {
+            outcome = "circuit_open";
+            throw unavailable(outcome, "auth-service is unavailable, try again later", e);
+        } catch (BulkheadFullException e) {
+            outcome = "bulkhead_full";
+            throw unavailable(outcome, "Too many concurrent auth-service calls, try again later", e);
+        } catch (DeadlineExceededException e) {
+            outcome = "deadline";
+            throw unavailable(outcome, "auth-service did not answer in time, try again later", e);
+        } catch (HttpClientErrorException e) {
+            outcome = "client_error";
+            throw e;
+        } catch (RestClientException e) {
+            outcome = AuthServiceDeadline.expired() ? "deadline" : "unavailable";
+            throw unavailable(outcome, "auth-service is unavailable, try again later", e);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CLIENT_TIMER)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private AuthServiceUnavailableException unavailable(String reason, String message, Exception cause) {
+        meterRegistry.counter(REJECTED, "reason", reason).increment();
+        return new AuthServiceUnavailableException(message, cause);
+    }
+
+    // Connection failures, timeouts and 5xx; never 4xx, an open breaker or a full bulkhead
+    private static boolean isTransient(Throwable e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    private static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
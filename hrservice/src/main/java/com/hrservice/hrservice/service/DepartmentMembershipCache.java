@@ -0,0 +1,188 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.config.AuthServiceConfig;
+import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.exception.AuthServiceUnavailableException;
+import com.hrservice.hrservice.security.ServiceTokenIssuer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class DepartmentMembershipCache {
+
+    private final AuthServiceClient authServiceClient;
+    private final ServiceTokenIssuer serviceTokenIssuer;
+    private final Executor refreshExecutor;
+    private final long refreshAfterNanos;
+    private final long staleWindowNanos;
+    private final Counter staleServed;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CompletableFuture<Members>> inFlight = new ConcurrentHashMap<>();
+
+    public DepartmentMembershipCache(AuthServiceClient authServiceClient, ServiceTokenIssuer serviceTokenIssuer,
+                                     AuthServiceConfig authServiceConfig, MeterRegistry meterRegistry,
+                                     Environment environment) {
+        AuthServiceConfig.DepartmentCache config = authServiceConfig.getDepartmentCache();
+        this.authServiceClient = authServiceClient;
+        this.serviceTokenIssuer = serviceTokenIssuer;
+        this.refreshAfterNanos = config.getRefreshAfter().toNanos();
+        this.staleWindowNanos = config.getStaleWindow().toNanos();
+
+        // Refreshes are single-flight per department, so with virtual threads they need no pool bound
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.refreshExecutor = new VirtualThreadTaskExecutor("department-cache-refresh-");
+        } else {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("department-cache-refresh-");
+            threadFactory.setDaemon(true);
+            this.refreshExecutor = Executors.newFixedThreadPool(config.getRefreshThreads(), threadFactory);
+        }
+
+        meterRegistry.gaugeMapSize("auth.department.cache.size", Tags.empty(), entries);
+        this.staleServed = meterRegistry.counter("auth.department.cache.stale.served");
+    }
+
+    // Entries are shared by every caller, so they are fetched with hrservice's own token rather than
+    // the caller's: the result never depends on who asked, and a refresh cannot fail on an expired token
+    public Members get(Long departmentId) {
+        Entry entry = entries.get(departmentId);
+        if (entry != null) {
+            long age = System.nanoTime() - entry.loadedAt();
+            if (age < refreshAfterNanos) {
+                return entry.members();
+            }
+            if (age < staleWindowNanos) {
+                load(departmentId, true);
+                return entry.members();
+            }
+        }
+
+        try {
+            return load(departmentId, false).join();
+        } catch (CompletionException e) {
+            // Past the stale window, but an old member list beats failing while auth-service is down
+            if (e.getCause() instanceof AuthServiceUnavailableException && entry != null) {
+                staleServed.increment();
+                return entry.members();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(Long departmentId) {
+        inFlight.remove(departmentId);
+        entries.remove(departmentId);
+    }
+
+    public void invalidateAll() {
+        inFlight.clear();
+        entries.clear();
+    }
+
+    // Only one load per department runs at a time; other callers share its result
+    private CompletableFuture<Members> load(Long departmentId, boolean async) {
+        CompletableFuture<Members> future = new CompletableFuture<>();
+        CompletableFuture<Members> existing = inFlight.putIfAbsent(departmentId, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        Runnable task = () -> {
+            try {
+                Members members = fetch(departmentId);
+                // Skip the store if the department was invalidated while we were loading. An empty
+                // department is cached too, or it would be fetched again on every call
+                inFlight.computeIfPresent(departmentId, (id, current) -> {
+                    if (current == future) {
+                        entries.put(id, new Entry(members, System.nanoTime()));
+                    }
+                    return current == future ? null : current;
+                });
+                future.complete(members);
+            } catch (RuntimeException e) {
+                inFlight.remove(departmentId, future);
+                future.completeExceptionally(e);
+            }
+        };
+
+        if (async) {
+            refreshExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return future;
+    }
+
+    private Members fetch(Long departmentId) {
+        return toMembers(authServiceClient.getUsersByDepartment(departmentId, serviceTokenIssuer.token()));
+    }
+
+    private static Members toMembers(List<UserInfo> users) {
+        if (users == null) {
+            return Members.EMPTY;
+        }
+        String[] employeeIds = users.stream()
+                .map(UserInfo::getEmployeeId)
+                .filter(Objects::nonNull)
+                .map(String::intern)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+        return new Members(employeeIds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private record Entry(Members members, long loadedAt) {
+    }
+
+    // Sorted, interned employee IDs of one department
+    public static final class Members {
+
+        static final Members EMPTY = new Members(new String[0]);
+
+        private final String[] employeeIds;
+
+        Members(String[] employeeIds) {
+            this.employeeIds = employeeIds;
+        }
+
+        public boolean contains(String employeeId) {
+            return employeeId != null && Arrays.binarySearch(employeeIds, employeeId) >= 0;
+        }
+
+        public List<String> asList() {
+            return Collections.unmodifiableList(Arrays.asList(employeeIds));
+        }
+
+        public int size() {
+            return employeeIds.length;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.hrservice.hrservice.service;
 
+import com.hrservice.hrservice.config.CacheConfig;
 import com.hrservice.hrservice.dto.DepartmentDto;
 import com.hrservice.hrservice.entity.Department;
 import com.hrservice.hrservice.repository.DepartmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,16 +19,21 @@ public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final AuthServiceClient authServiceClient;
+    private final DepartmentMembershipCache departmentMembershipCache;
+    private final HodDepartmentIndex hodDepartmentIndex;
 
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENTS, key = "'all'")
     public List<Department> findAll() {
         return departmentRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENTS, key = "#id", unless = "#result == null")
     public Optional<Department> findById(Long id) {
         return departmentRepository.findById(id);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
     public Department create(DepartmentDto departmentDto) {
         if (departmentRepository.findByName(departmentDto.getName()).isPresent()) {
             throw new IllegalArgumentException("Department with name " + departmentDto.getName() + " already exists");
@@ -40,10 +48,13 @@ public class DepartmentService {
             department.setHodEmployeeId(departmentDto.getHodEmployeeId());
         }
         
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        hodDepartmentIndex.onSaved(saved);
+        return saved;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
     public Department update(Long id, DepartmentDto departmentDto) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + id));
@@ -63,24 +74,30 @@ public class DepartmentService {
             department.setHodEmployeeId(departmentDto.getHodEmployeeId());
         }
         
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        hodDepartmentIndex.onSaved(saved);
+        return saved;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
     public void assignHod(Long departmentId, String hodEmployeeId) {
         Department department = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + departmentId));
         
         department.setHodEmployeeId(hodEmployeeId);
-        departmentRepository.save(department);
+        hodDepartmentIndex.onSaved(departmentRepository.save(department));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
     public void delete(Long id) {
         if (!departmentRepository.existsById(id)) {
             throw new IllegalArgumentException("Department not found with id: " + id);
         }
         departmentRepository.deleteById(id);
+        departmentMembershipCache.invalidate(id);
+        hodDepartmentIndex.onDeleted(id);
     }
 }
 
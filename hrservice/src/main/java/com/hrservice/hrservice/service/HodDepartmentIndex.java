@@ -0,0 +1,121 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.entity.Department;
+import com.hrservice.hrservice.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory hodEmployeeId -> departmentId map, kept in sync by DepartmentService on this instance.
+// Entries expire after TTL so HOD changes made through other instances are picked up; until then
+// an entry can be stale, so it only says where to look. Callers that grant access re-check
+// departments.hod_employee_id, under the department row lock or in the query itself.
+@Component
+@RequiredArgsConstructor
+public class HodDepartmentIndex {
+
+    private static final long TTL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final DepartmentRepository departmentRepository;
+
+    private final Map<String, Entry> departmentByHod = new ConcurrentHashMap<>();
+    private final Map<Long, String> hodByDepartment = new ConcurrentHashMap<>();
+    // Bumped by every department commit on this instance; guarded by this
+    private long generation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long seen = generation();
+        for (Department department : departmentRepository.findAll()) {
+            putIfUnchanged(department.getHodEmployeeId(), Optional.of(department), seen);
+        }
+    }
+
+    public Optional<Long> findDepartmentId(String hodEmployeeId) {
+        Entry entry = departmentByHod.get(hodEmployeeId);
+        if (entry != null && System.nanoTime() - entry.loadedAt() < TTL_NANOS) {
+            return Optional.of(entry.departmentId());
+        }
+
+        // Miss or expired: fall back to the indexed column and remember the answer, unless a
+        // department commit landed meanwhile and the row read here may predate it
+        long seen = generation();
+        Optional<Department> department = departmentRepository.findFirstByHodEmployeeId(hodEmployeeId);
+        putIfUnchanged(hodEmployeeId, department, seen);
+        return department.map(Department::getId);
+    }
+
+    public void onSaved(Department department) {
+        TransactionCallbacks.afterCommit(() -> apply(department));
+    }
+
+    public void onDeleted(Long departmentId) {
+        TransactionCallbacks.afterCommit(() -> applyDelete(departmentId));
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void apply(Department department) {
+        generation++;
+        put(department);
+    }
+
+    private synchronized void applyDelete(Long departmentId) {
+        generation++;
+        remove(departmentId);
+    }
+
+    private synchronized void putIfUnchanged(String hodEmployeeId, Optional<Department> department, long seen) {
+        if (generation != seen) {
+            return;
+        }
+        if (department.isPresent()) {
+            put(department.get());
+        } else {
+            Entry previous = departmentByHod.remove(hodEmployeeId);
+            if (previous != null) {
+                hodByDepartment.remove(previous.departmentId(), hodEmployeeId);
+            }
+        }
+    }
+
+    private void put(Department department) {
+        Long departmentId = department.getId();
+        String hodEmployeeId = department.getHodEmployeeId();
+        if (hodEmployeeId == null || hodEmployeeId.isEmpty()) {
+            remove(departmentId);
+            return;
+        }
+
+        String previous = hodByDepartment.put(departmentId, hodEmployeeId);
+        if (previous != null && !previous.equals(hodEmployeeId)) {
+            removeHod(previous, departmentId);
+        }
+        Entry replaced = departmentByHod.put(hodEmployeeId, new Entry(departmentId, System.nanoTime()));
+        if (replaced != null && !replaced.departmentId().equals(departmentId)) {
+            hodByDepartment.remove(replaced.departmentId(), hodEmployeeId);
+        }
+    }
+
+    private void remove(Long departmentId) {
+        String previous = hodByDepartment.remove(departmentId);
+        if (previous != null) {
+            removeHod(previous, departmentId);
+        }
+    }
+
+    private void removeHod(String hodEmployeeId, Long departmentId) {
+        departmentByHod.computeIfPresent(hodEmployeeId, (hod, entry) -> entry.departmentId().equals(departmentId) ? null : entry);
+    }
+
+    private record Entry(Long departmentId, long loadedAt) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.dto.LeaveBalanceView;
+import com.hrservice.hrservice.dto.LeaveUsageView;
+import com.hrservice.hrservice.entity.LeaveBalance;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import com.hrservice.hrservice.repository.LeaveBalanceRepository;
+import com.hrservice.hrservice.repository.LeaveRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Running totals of pending and approved leave days per employee, leave type and calendar year.
+// Submissions and decisions adjust one row per touched year, so the allowance check never sums history.
+// Writers for an employee already hold their department's row lock, which keeps check-then-adjust atomic;
+// reconciliation only ever adds corrections on top, so it cannot undo an adjustment.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaveBalanceService {
+
+    // Same upsert as LeaveBalanceRepository.adjust, for JDBC batches
+    private static final String ADJUST_SQL = "INSERT INTO leave_balances " +
+            "(employee_id, leave_type_id, leave_year, pending_days, approved_days, updated_at) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE pending_days = pending_days + VALUES(pending_days), " +
+            "approved_days = approved_days + VALUES(approved_days), updated_at = VALUES(updated_at)";
+    private static final String LEDGER_SQL =
+            "SELECT employee_id, leave_type_id, leave_year, pending_days, approved_days FROM leave_balances";
+    // Row in job_locks (V6) that one reconciliation holds at a time, across all instances
+    private static final String RECONCILE_LOCK_SQL =
+            "SELECT name FROM job_locks WHERE name = 'leave_balance_reconcile' FOR UPDATE SKIP LOCKED";
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final LeaveTypeService leaveTypeService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Throws if the request would take the employee past the leave type's yearly allowance
+    public void checkAllowance(String employeeId, LeaveType leaveType, LocalDate startDate, LocalDate endDate) {
+        Integer maxDays = leaveType.getMaxDaysPerYear();
+        if (maxDays == null) {
+            return;
+        }
+        for (Map.Entry<Integer, Integer> days : daysPerYear(startDate, endDate).entrySet()) {
+            int used = leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(employeeId, leaveType.getId(), days.getKey())
+                    .map(balance -> balance.getApprovedDays() + balance.getPendingDays())
+                    .orElse(0);
+            if (used + days.getValue() > maxDays) {
+                throw new IllegalArgumentException("Leave allowance exceeded for " + leaveType.getName() + " in " + days.getKey()
+                        + ": " + used + " of " + maxDays + " days already approved or pending, " + days.getValue() + " requested");
+            }
+        }
+    }
+
+    // A new PENDING request reserves its days
+    public void onSubmitted(LeaveRequest leaveRequest) {
+        adjust(leaveRequest, 1, 0);
+    }
+
+    // A PENDING request was approved (reserved days become used) or rejected (reservation released)
+    public void onDecided(LeaveRequest leaveRequest) {
+        if (leaveRequest.getStatus() == LeaveRequest.Status.APPROVED) {
+            adjust(leaveRequest, -1, 1);
+        } else if (leaveRequest.getStatus() == LeaveRequest.Status.REJECTED) {
+            adjust(leaveRequest, -1, 0);
+        }
+    }
+
+    // One entry per leave type, including types the employee has not used this year
+    public List<LeaveBalanceView> findForEmployee(String employeeId, int year) {
+        Map<Long, LeaveBalance> balances = new HashMap<>();
+        for (LeaveBalance balance : leaveBalanceRepository.findByEmployeeIdAndYear(employeeId, year)) {
+            balances.put(balance.getLeaveTypeId(), balance);
+        }
+        List<LeaveBalanceView> views = new ArrayList<>();
+        for (LeaveType leaveType : leaveTypeService.findAll()) {
+            LeaveBalance balance = balances.get(leaveType.getId());
+            int approved = balance != null ? balance.getApprovedDays() : 0;
+            int pending = balance != null ? balance.getPendingDays() : 0;
+            Integer maxDays = leaveType.getMaxDaysPerYear();
+            views.add(new LeaveBalanceView(leaveType.getId(), leaveType.getName(), year, maxDays, approved, pending,
+                    maxDays != null ? maxDays - approved - pending : null));
+        }
+        return views;
+    }
+
+    // The ledger starts empty after its migration; build it before the first submission relies on it.
+    // During a rolling deploy every new instance gets here, but only one of them runs the rebuild.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (leaveBalanceRepository.count() == 0 && leaveRequestRepository.count() > 0) {
+            reconcileUnlessRunning();
+        }
+    }
+
+    @Scheduled(cron = "${leave-balance.reconcile-cron:-}")
+    public void scheduledReconcile() {
+        reconcileUnlessRunning();
+    }
+
+    // Corrects any drift between the ledger and leave_requests while writers keep going, in one
+    // REPEATABLE READ transaction. It first takes the job_locks row, so runs on different instances
+    // (startup, the cron, the HR endpoint) are serialised by the database. It then reads both tables
+    // in a snapshot that starts after the lock, so it includes whatever the previous run corrected,
+    // and applies the difference as increments, the way adjust() moves the counters. Changes committed
+    // after the snapshot reached the ledger through adjust() and stay on top of the correction.
+    // Returns the number of balance rows corrected, or empty if another run holds the lock.
+    public Optional<Integer> reconcile() {
+        TransactionTemplate run = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        run.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return run.execute(status -> {
+            if (jdbcTemplate.queryForList(RECONCILE_LOCK_SQL, String.class).isEmpty()) {
+                return Optional.empty();
+            }
+            Map<BalanceKey, int[]> drift = drift();
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> rows = new ArrayList<>();
+            drift.forEach((key, days) -> {
+                if (days[0] != 0 || days[1] != 0) {
+                    rows.add(new Object[]{key.employeeId(), key.leaveTypeId(), key.year(), days[0], days[1], now});
+                }
+            });
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(ADJUST_SQL, rows);
+            }
+            return Optional.of(rows.size());
+        });
+    }
+
+    private void reconcileUnlessRunning() {
+        reconcile().ifPresentOrElse(
+                corrected -> log.info("Leave balances reconciled, {} rows corrected", corrected),
+                () -> log.info("Leave balance reconciliation skipped, another instance is running it"));
+    }
+
+    // Rows inserted outside JPA (the import): their days are summed per balance row and added with
+    // one upsert each. Call in the inserting transaction so the ledger commits with the rows.
+    public void onImported(Collection<ImportedLeave> leaves) {
+        Map<BalanceKey, int[]> totals = new HashMap<>();
+        for (ImportedLeave leave : leaves) {
+            add(totals, leave.employeeId(), leave.leaveTypeId(), leave.startDate(), leave.endDate(), leave.status());
+        }
+        totals.forEach((key, days) ->
+                leaveBalanceRepository.adjust(key.employeeId(), key.leaveTypeId(), key.year(), days[0], days[1]));
+    }
+
+    // Expected counters from leave_requests minus the ledger's, both as of the same snapshot
+    private Map<BalanceKey, int[]> drift() {
+        Map<BalanceKey, int[]> drift = new HashMap<>();
+        try (Stream<LeaveUsageView> usages = leaveRequestRepository.streamUsage()) {
+            usages.forEach(usage -> add(drift, usage.getEmployeeId(), usage.getLeaveTypeId(),
+                    usage.getStartDate(), usage.getEndDate(), usage.getStatus()));
+        }
+        jdbcTemplate.query(LEDGER_SQL, (RowCallbackHandler) row -> {
+            int[] days = drift.computeIfAbsent(
+                    new BalanceKey(row.getString(1), row.getLong(2), row.getInt(3)), key -> new int[2]);
+            days[0] -= row.getInt(4);
+            days[1] -= row.getInt(5);
+        });
+        return drift;
+    }
+
+    private static void add(Map<BalanceKey, int[]> totals, String employeeId, Long leaveTypeId,
+                            LocalDate startDate, LocalDate endDate, LeaveRequest.Status status) {
+        if (leaveTypeId == null || (status != LeaveRequest.Status.APPROVED && status != LeaveRequest.Status.PENDING)) {
+            return;
+        }
+        int slot = status == LeaveRequest.Status.APPROVED ? 1 : 0;
+        daysPerYear(startDate, endDate).forEach((year, days) ->
+                totals.computeIfAbsent(new BalanceKey(employeeId, leaveTypeId, year), key -> new int[2])[slot] += days);
+    }
+
+    private void adjust(LeaveRequest leaveRequest, int pendingSign, int approvedSign) {
+        if (leaveRequest.getLeaveType() == null) {
+            return;
+        }
+        Long leaveTypeId = leaveRequest.getLeaveType().getId();
+        daysPerYear(leaveRequest.getStartDate(), leaveRequest.getEndDate()).forEach((year, days) ->
+                leaveBalanceRepository.adjust(leaveRequest.getEmployeeId(), leaveTypeId, year, pendingSign * days, approvedSign * days));
+    }
+
+    // Calendar days of [startDate, endDate] falling in each year; usually a single entry
+    static Map<Integer, Integer> daysPerYear(LocalDate startDate, LocalDate endDate) {
+        Map<Integer, Integer> days = new HashMap<>(2);
+        LocalDate from = startDate;
+        while (!from.isAfter(endDate)) {
+            LocalDate yearEnd = LocalDate.of(from.getYear(), 12, 31);
+            LocalDate to = endDate.isBefore(yearEnd) ? endDate : yearEnd;
+            days.put(from.getYear(), (int) (to.toEpochDay() - from.toEpochDay() + 1));
+            from = to.plusDays(1);
+        }
+        return days;
+    }
+
+    private record BalanceKey(String employeeId, Long leaveTypeId, int year) {
+    }
+
+    public record ImportedLeave(String employeeId, Long leaveTypeId, LocalDate startDate, LocalDate endDate,
+                                LeaveRequest.Status status) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.dto.LeaveIntervalView;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.repository.LeaveRequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-department interval trees of PENDING and APPROVED leaves, used only to short-circuit obvious
+// conflicts: a hit rejects without a query, a miss proves nothing and the caller still runs
+// existsOverlappingLeave, which stays the authoritative guard. Local commits are applied as they
+// happen; writes from other instances arrive with the periodic rebuild.
+@Component
+@RequiredArgsConstructor
+public class LeaveCalendarIndex {
+
+    private final LeaveRequestRepository leaveRequestRepository;
+
+    private final Map<Long, DepartmentCalendar> calendars = new ConcurrentHashMap<>();
+    // A lock rather than synchronized: the rebuild blocks on JDBC, which would pin a virtual thread's carrier.
+    // Commits are applied under it too, so a rebuild cannot swap in rows read before a commit it then loses.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Leaves that ended before the build cannot collide with new requests, so they are skipped
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Map<Long, DepartmentCalendar> rebuilt = new HashMap<>();
+            for (LeaveIntervalView leave : leaveRequestRepository.findActiveIntervals(LocalDate.now())) {
+                rebuilt.computeIfAbsent(leave.getDepartmentId(), id -> new DepartmentCalendar())
+                        .put(leave.getId(), leave.getStartDate().toEpochDay(), leave.getEndDate().toEpochDay());
+            }
+            // Swapped in per department, never cleared: a concurrent check sees the old or the new calendar
+            calendars.putAll(rebuilt);
+            calendars.keySet().retainAll(rebuilt.keySet());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Ended leaves cannot collide with periods starting today or later
+    @Scheduled(cron = "0 0 0 * * *")
+    public void prune() {
+        long today = LocalDate.now().toEpochDay();
+        calendars.values().forEach(calendar -> calendar.removeEndedBefore(today));
+    }
+
+    // Whether a known active leave other than excludeId overlaps the period. False is not proof of no
+    // conflict: the calendar may not have seen another instance's writes yet.
+    public boolean overlaps(Long departmentId, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        if (departmentId == null) {
+            return false;
+        }
+        DepartmentCalendar calendar = calendars.get(departmentId);
+        return calendar != null
+                && calendar.overlaps(startDate.toEpochDay(), endDate.toEpochDay(), excludeId != null ? excludeId : 0L);
+    }
+
+    public void onSaved(LeaveRequest leaveRequest) {
+        onSaved(List.of(leaveRequest));
+    }
+
+    public void onSaved(Collection<LeaveRequest> saved) {
+        List<Change> changes = saved.stream()
+                .filter(leaveRequest -> leaveRequest.getDepartmentId() != null)
+                .map(leaveRequest -> new Change(
+                        leaveRequest.getId(),
+                        leaveRequest.getDepartmentId(),
+                        leaveRequest.getStatus() == LeaveRequest.Status.PENDING || leaveRequest.getStatus() == LeaveRequest.Status.APPROVED,
+                        leaveRequest.getStartDate().toEpochDay(),
+                        leaveRequest.getEndDate().toEpochDay()))
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            rebuildLock.lock();
+            try {
+                for (Change change : changes) {
+                    DepartmentCalendar calendar = calendars.computeIfAbsent(change.departmentId(), id -> new DepartmentCalendar());
+                    if (change.active()) {
+                        calendar.put(change.id(), change.start(), change.end());
+                    } else {
+                        calendar.remove(change.id());
+                    }
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        });
+    }
+
+    public void rebuildAfterCommit() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+    }
+
+    private record Change(Long id, Long departmentId, boolean active, long start, long end) {
+    }
+
+    private static final class DepartmentCalendar {
+
+        private final IntervalTree tree = new IntervalTree();
+        private final Map<Long, long[]> intervals = new HashMap<>();
+
+        synchronized void put(Long id, long start, long end) {
+            remove(id);
+            tree.insert(id, start, end);
+            intervals.put(id, new long[]{start, end});
+        }
+
+        synchronized void remove(Long id) {
+            long[] previous = intervals.remove(id);
+            if (previous != null) {
+                tree.remove(id, previous[0]);
+            }
+        }
+
+        synchronized void removeEndedBefore(long day) {
+            Iterator<Map.Entry<Long, long[]>> iterator = intervals.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, long[]> interval = iterator.next();
+                if (interval.getValue()[1] < day) {
+                    tree.remove(interval.getKey(), interval.getValue()[0]);
+                    iterator.remove();
+                }
+            }
+        }
+
+        synchronized boolean overlaps(long start, long end, long excludeId) {
+            return tree.overlaps(start, end, excludeId);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.hrservice.hrservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.hrservice.hrservice.config.LeaveImportConfig;
+import com.hrservice.hrservice.dto.LeaveImportReport;
+import com.hrservice.hrservice.entity.Department;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Loads historical leave requests from CSV (with a header row) or NDJSON, one JDBC batch per transaction.
+// Goes around JPA: IDENTITY ids disable Hibernate insert batching, and rows are not tied to the caller.
+// Fields: employeeId, departmentId, leaveTypeId, startDate, endDate, reason, status, approvedBy,
+// rejectionReason, createdAt. Imported rows are taken as recorded; no overlap check is applied.
+@Service
+@RequiredArgsConstructor
+public class LeaveImportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO leave_requests (employee_id, department_id, leave_type_id, " +
+            "start_date, end_date, reason, status, approved_by, rejection_reason, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // VARCHAR(255) text columns of leave_requests; status is validated against the enum
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaveTypeService leaveTypeService;
+    private final DepartmentService departmentService;
+    private final LeaveCalendarIndex leaveCalendarIndex;
+    private final LeaveBalanceService leaveBalanceService;
+    private final ObjectMapper objectMapper;
+    private final LeaveImportConfig leaveImportConfig;
+
+    public LeaveImportReport importLeaveRequests(InputStream in, Format format) throws IOException {
+        long started = System.nanoTime();
+        // Reference data comes from the cached services, so validation costs no queries per row
+        Run run = new Run(
+                new HashSet<>(leaveTypeService.findAll().stream().map(LeaveType::getId).toList()),
+                new HashSet<>(departmentService.findAll().stream().map(Department::getId).toList()));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        flush(run);
+
+        // Imported rows bypass the calendar's incremental updates
+        if (run.imported > 0) {
+            leaveCalendarIndex.rebuild();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        return new LeaveImportReport(
+                run.rowsRead,
+                run.imported,
+                run.failed,
+                elapsedNanos / 1_000_000,
+                run.rowsRead * 1_000_000_000L / Math.max(1, elapsedNanos),
+                run.errors
+        );
+    }
+
+    private void readCsv(BufferedReader reader, Run run) throws IOException {
+        ObjectReader rowReader = new CsvMapper()
+                .readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        try (MappingIterator<Map<String, String>> rows = rowReader.readValues(reader)) {
+            while (rows.hasNextValue()) {
+                long row = run.rowsRead + 1;
+                try {
+                    accept(run, rows.nextValue());
+                } catch (JsonProcessingException e) {
+                    // A broken CSV record cannot be skipped reliably; keep what was read so far
+                    run.rowsRead = row;
+                    run.reject(row, "Malformed CSV, rest of the input skipped: " + e.getOriginalMessage());
+                    return;
+                }
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Run run) throws IOException {
+        ObjectReader rowReader = objectMapper.readerForMapOf(Object.class);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Map<String, Object> values;
+            try {
+                values = rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                run.rowsRead++;
+                run.reject(run.rowsRead, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            accept(run, values);
+        }
+    }
+
+    private void accept(Run run, Map<String, ?> values) {
+        long row = ++run.rowsRead;
+        try {
+            run.batch.add(toImportRow(row, values, run));
+        } catch (IllegalArgumentException e) {
+            run.reject(row, e.getMessage());
+            return;
+        }
+        if (run.batch.size() >= leaveImportConfig.getBatchSize()) {
+            flush(run);
+        }
+    }
+
+    private ImportRow toImportRow(long row, Map<String, ?> values, Run run) {
+        String employeeId = limited(required(values, "employeeId"), "employeeId");
+
+        Long departmentId = number(values, "departmentId");
+        if (!run.departmentIds.contains(departmentId)) {
+            throw new IllegalArgumentException("Department not found with id: " + departmentId);
+        }
+        Long leaveTypeId = number(values, "leaveTypeId");
+        if (!run.leaveTypeIds.contains(leaveTypeId)) {
+            throw new IllegalArgumentException("Leave type not found with id: " + leaveTypeId);
+        }
+
+        LocalDate startDate = date(values, "startDate");
+        LocalDate endDate = date(values, "endDate");
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must be after or equal to start date");
+        }
+
+        LeaveRequest.Status status = LeaveRequest.Status.PENDING;
+        String statusText = text(values, "status");
+        if (statusText != null) {
+            try {
+                status = LeaveRequest.Status.valueOf(statusText.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("status must be PENDING, APPROVED or REJECTED");
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdAt = now;
+        String createdAtText = text(values, "createdAt");
+        if (createdAtText != null) {
+            try {
+                createdAt = LocalDateTime.parse(createdAtText);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("createdAt must be an ISO date-time");
+            }
+        }
+
+        Object[] args = {
+                employeeId, departmentId, leaveTypeId, startDate, endDate,
+                limited(text(values, "reason"), "reason"), status.name(),
+                limited(text(values, "approvedBy"), "approvedBy"),
+                limited(text(values, "rejectionReason"), "rejectionReason"),
+                createdAt, now
+        };
+        return new ImportRow(row, args,
+                new LeaveBalanceService.ImportedLeave(employeeId, leaveTypeId, startDate, endDate, status));
+    }
+
+    // One transaction per batch. A batch the database rejects is retried row by row, so only the
+    // offending rows fail and each is reported with its own error.
+    private void flush(Run run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(run.batch);
+            run.imported += run.batch.size();
+        } catch (DataAccessException e) {
+            for (ImportRow row : run.batch) {
+                try {
+                    insert(List.of(row));
+                    run.imported++;
+                } catch (DataAccessException rowError) {
+                    run.reject(row.row(), "Rejected by the database: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        run.batch.clear();
+    }
+
+    private void insert(List<ImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows.stream().map(ImportRow::args).toList());
+            // The ledger commits with the rows
+            leaveBalanceService.onImported(rows.stream().map(ImportRow::leave).toList());
+        });
+    }
+
+    private static String text(Map<String, ?> values, String field) {
+        Object value = values.get(field);
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    // Checked here rather than left to the database, which would fail the whole batch
+    private static String limited(String text, String field) {
+        if (text != null && text.codePointCount(0, text.length()) > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field + " must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        return text;
+    }
+
+    private static String required(Map<String, ?> values, String field) {
+        String text = text(values, field);
+        if (text == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return text;
+    }
+
+    private static Long number(Map<String, ?> values, String field) {
+        try {
+            return Long.valueOf(required(values, field));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " must be a number");
+        }
+    }
+
+    private static LocalDate date(Map<String, ?> values, String field) {
+        try {
+            return LocalDate.parse(required(values, field));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+
+    // A validated row waiting for its batch: 1-based row number, INSERT parameters and ledger days
+    private record ImportRow(long row, Object[] args, LeaveBalanceService.ImportedLeave leave) {
+    }
+
+    private final class Run {
+        private final Set<Long> leaveTypeIds;
+        private final Set<Long> departmentIds;
+        private final List<ImportRow> batch = new ArrayList<>();
+        private final List<LeaveImportReport.RowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long failed;
+
+        private Run(Set<Long> leaveTypeIds, Set<Long> departmentIds) {
+            this.leaveTypeIds = leaveTypeIds;
+            this.departmentIds = departmentIds;
+        }
+
+        private void reject(long row, String message) {
+            failed++;
+            if (errors.size() < leaveImportConfig.getMaxReportedErrors()) {
+                errors.add(new LeaveImportReport.RowError(row, message));
+            }
+        }
+    }
+}
@@ -1,38 +1,127 @@
 package com.hrservice.hrservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.hrservice.hrservice.dto.CursorPage;
 import com.hrservice.hrservice.dto.LeaveApprovalDto;
+import com.hrservice.hrservice.dto.LeaveBatchApprovalDto;
+import com.hrservice.hrservice.dto.LeaveBatchResult;
+import com.hrservice.hrservice.dto.LeaveIntervalView;
 import com.hrservice.hrservice.dto.LeaveRequestDto;
+import com.hrservice.hrservice.dto.LeaveRequestFilter;
+import com.hrservice.hrservice.dto.LeaveRequestView;
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.dto.UserInfo;
 import com.hrservice.hrservice.entity.Department;
 import com.hrservice.hrservice.entity.LeaveRequest;
 import com.hrservice.hrservice.entity.LeaveType;
+import com.hrservice.hrservice.exception.AuthServiceUnavailableException;
 import com.hrservice.hrservice.repository.DepartmentRepository;
 import com.hrservice.hrservice.repository.LeaveRequestRepository;
-import com.hrservice.hrservice.repository.LeaveTypeRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+// Every public method is timed as leave.request.service{class, method, exception}
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "leave.request.service", histogram = true)
 public class LeaveRequestService {
 
+    // Upper bound on bind parameters per IN list
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final LeaveRequestRepository leaveRequestRepository;
-    private final LeaveTypeRepository leaveTypeRepository;
+    private final LeaveTypeService leaveTypeService;
     private final DepartmentRepository departmentRepository;
     private final AuthServiceClient authServiceClient;
+    private final DepartmentMembershipCache departmentMembershipCache;
+    private final HodDepartmentIndex hodDepartmentIndex;
+    private final LeaveCalendarIndex leaveCalendarIndex;
+    private final LeaveBalanceService leaveBalanceService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Set once a backfill has covered every department; later runs would find nothing new
+    private volatile boolean legacyRowsSwept;
+
+    // Leave type names are embedded in the views, so renaming a type also changes the version
+    public ResourceVersion versionOf(CursorPage<LeaveRequestView> page) {
+        return ResourceVersion.ofRows(page.getItems(), LeaveRequestView::getId, LeaveRequestView::getUpdatedAt)
+                .and(leaveTypeService.currentVersion());
+    }
 
-    public List<LeaveRequest> findAll() {
-        return leaveRequestRepository.findAll();
+    public CursorPage<LeaveRequestView> findPage(LeaveRequestFilter filter, Long cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<LeaveRequestView> items = leaveRequestRepository.findViewPageAfter(
+                cursor != null ? cursor : 0L,
+                filter.getStatus(),
+                filter.getLeaveTypeId(),
+                filter.getFrom(),
+                filter.getTo(),
+                PageRequest.of(0, pageSize)
+        );
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor);
     }
 
-    public LeaveRequest findById(Long id) {
-        return leaveRequestRepository.findById(id)
+    // Writes every matching request as one JSON line; views are not managed, so memory stays flat
+    @Transactional(readOnly = true)
+    public void exportNdjson(LeaveRequestFilter filter, OutputStream out) throws IOException {
+        try (Stream<LeaveRequestView> rows = leaveRequestRepository.streamViews(
+                filter.getStatus(), filter.getLeaveTypeId(), filter.getFrom(), filter.getTo());
+             SequenceWriter writer = objectMapper.writerFor(LeaveRequestView.class)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<LeaveRequestView> iterator = rows.iterator();
+            boolean written = false;
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                written = true;
+            }
+            writer.flush();
+            if (written) {
+                out.write('\n');
+            }
+        }
+    }
+
+    // Single request: its own updatedAt plus the leave types, whose names are embedded in the view
+    public ResourceVersion versionOf(Long id) {
+        return leaveRequestRepository.findVersionById(id).and(leaveTypeService.currentVersion());
+    }
+
+    public LeaveRequestView findById(Long id) {
+        return leaveRequestRepository.findViewById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Leave request not found with id: " + id));
     }
 
@@ -40,38 +129,36 @@ public class LeaveRequestService {
         return leaveRequestRepository.findByEmployeeId(employeeId);
     }
 
-    public List<LeaveRequest> findMyLeaveRequests() {
+    public ResourceVersion myLeaveRequestsVersion() {
         UserInfo userInfo = getCurrentUser();
-        return leaveRequestRepository.findByEmployeeId(userInfo.getEmployeeId());
+        return leaveRequestRepository.findVersionByEmployeeId(userInfo.getEmployeeId())
+                .and(leaveTypeService.currentVersion());
     }
 
-    public List<LeaveRequest> findPendingForHod() {
+    public List<LeaveRequestView> findMyLeaveRequests() {
         UserInfo userInfo = getCurrentUser();
-        if (!"hod".equalsIgnoreCase(userInfo.getRole())) {
-            throw new SecurityException("Only HOD can view pending leave requests");
-        }
+        return leaveRequestRepository.findViewsByEmployeeId(userInfo.getEmployeeId());
+    }
 
-        // Find department where this user is HOD
-        Department department = departmentRepository.findAll().stream()
-                .filter(dept -> userInfo.getEmployeeId().equals(dept.getHodEmployeeId()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No department found where you are HOD"));
+    public ResourceVersion pendingForHodVersion() {
+        Long departmentId = getHodDepartmentId();
+        return leaveRequestRepository.findVersionByDepartmentIdAndStatusForHod(
+                        departmentId, getCurrentUser().getEmployeeId(), LeaveRequest.Status.PENDING)
+                .and(leaveTypeService.currentVersion());
+    }
 
-        // Get all employees in this department from auth-service
-        String token = getCurrentToken();
-        List<UserInfo> departmentUsers = authServiceClient.getUsersByDepartment(department.getId(), token);
-        List<String> departmentEmployeeIds = departmentUsers.stream()
-                .map(UserInfo::getEmployeeId)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<LeaveRequestView> findPendingForHod(int page, int size) {
+        Long departmentId = getHodDepartmentId();
 
-        // Get all pending leave requests for employees in this department
-        return leaveRequestRepository.findAll().stream()
-                .filter(lr -> lr.getStatus() == LeaveRequest.Status.PENDING)
-                .filter(lr -> departmentEmployeeIds.contains(lr.getEmployeeId()))
-                .collect(Collectors.toList());
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        return leaveRequestRepository.findViewsByDepartmentIdAndStatusForHod(
+                departmentId, getCurrentUser().getEmployeeId(), LeaveRequest.Status.PENDING, pageable);
     }
 
-    @Transactional
+    // Read committed: the overlap check runs after the department lock and must see what the previous
+    // lock holder committed, not a REPEATABLE READ snapshot taken by an earlier read in this transaction
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public LeaveRequest create(LeaveRequestDto leaveRequestDto) {
         UserInfo userInfo = getCurrentUser();
         
@@ -81,7 +168,7 @@ public class LeaveRequestService {
         }
 
         // Get leave type
-        LeaveType leaveType = leaveTypeRepository.findById(leaveRequestDto.getLeaveTypeId())
+        LeaveType leaveType = leaveTypeService.findById(leaveRequestDto.getLeaveTypeId())
                 .orElseThrow(() -> new IllegalArgumentException("Leave type not found"));
 
         // Get user's department
@@ -89,41 +176,48 @@ public class LeaveRequestService {
             throw new IllegalArgumentException("Employee must be assigned to a department");
         }
 
-        Department department = departmentRepository.findById(userInfo.getDepartmentId().longValue())
+        // Lock the department row so concurrent submissions in the same department cannot both
+        // pass the overlap check; other departments are not blocked
+        Department department = departmentRepository.findByIdForUpdate(userInfo.getDepartmentId().longValue())
                 .orElseThrow(() -> new IllegalArgumentException("Department not found"));
 
-        // Get all employees in the same department
-        // In a real scenario, you'd call auth-service to get employees by departmentId
-        // For now, we'll check all leave requests and filter by department
-        // This requires getting employee IDs from auth-service
-        List<String> departmentEmployeeIds = getDepartmentEmployeeIds(department.getId());
-
-        // Check for overlapping approved or pending leaves in the same department
-        List<LeaveRequest> overlappingLeaves = leaveRequestRepository.findOverlappingLeaves(
-                departmentEmployeeIds,
-                leaveRequestDto.getStartDate(),
-                leaveRequestDto.getEndDate(),
-                0L // excludeId = 0 for new requests
-        );
-
-        if (!overlappingLeaves.isEmpty()) {
+        // Check for overlapping approved or pending leaves in the same department: a conflict the
+        // in-memory calendar already knows about needs no query, anything else is decided by the database
+        boolean overlapping = leaveCalendarIndex.overlaps(
+                department.getId(), leaveRequestDto.getStartDate(), leaveRequestDto.getEndDate(), 0L)
+                || leaveRequestRepository.existsOverlappingLeave(
+                        department.getId(),
+                        leaveRequestDto.getStartDate(),
+                        leaveRequestDto.getEndDate(),
+                        0L // excludeId = 0 for new requests
+                );
+
+        if (overlapping) {
             throw new IllegalArgumentException(
                     "Cannot apply for leave: Another employee in your department already has an approved or pending leave during this period");
         }
 
+        // O(1) against the ledger instead of summing the employee's history
+        leaveBalanceService.checkAllowance(userInfo.getEmployeeId(), leaveType, leaveRequestDto.getStartDate(), leaveRequestDto.getEndDate());
+
         // Create leave request
         LeaveRequest leaveRequest = new LeaveRequest();
         leaveRequest.setEmployeeId(userInfo.getEmployeeId());
+        leaveRequest.setDepartmentId(department.getId());
         leaveRequest.setLeaveType(leaveType);
         leaveRequest.setStartDate(leaveRequestDto.getStartDate());
         leaveRequest.setEndDate(leaveRequestDto.getEndDate());
         leaveRequest.setReason(leaveRequestDto.getReason());
         leaveRequest.setStatus(LeaveRequest.Status.PENDING);
 
-        return leaveRequestRepository.save(leaveRequest);
+        LeaveRequest saved = leaveRequestRepository.save(leaveRequest);
+        leaveCalendarIndex.onSaved(saved);
+        leaveBalanceService.onSubmitted(saved);
+        return saved;
     }
 
-    @Transactional
+    // Read committed for the same reason as create
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public LeaveRequest approveOrReject(Long id, LeaveApprovalDto approvalDto) {
         UserInfo userInfo = getCurrentUser();
         
@@ -131,6 +225,11 @@ public class LeaveRequestService {
             throw new SecurityException("Only HOD can approve or reject leave requests");
         }
 
+        boolean approve = "approve".equalsIgnoreCase(approvalDto.getAction());
+        if (!approve && !"reject".equalsIgnoreCase(approvalDto.getAction())) {
+            throw new IllegalArgumentException("Action must be 'approve' or 'reject'");
+        }
+
         LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Leave request not found"));
 
@@ -138,46 +237,213 @@ public class LeaveRequestService {
             throw new IllegalArgumentException("Leave request is not pending");
         }
 
-        // Get the employee's department from auth-service
-        String token = getCurrentToken();
-        UserInfo requestEmployee = authServiceClient.getUserByEmployeeId(leaveRequest.getEmployeeId(), token);
-        if (requestEmployee == null || requestEmployee.getDepartmentId() == null) {
-            throw new IllegalArgumentException("Employee must be assigned to a department");
+        // Requests the backfill has not reached yet have no department_id. The HOD may only decide for
+        // their own department (as in the batch endpoint), checked against its cached member list,
+        // which is fetched before the lock so no remote call runs while it is held.
+        Long departmentId = leaveRequest.getDepartmentId();
+        boolean legacy = departmentId == null;
+        if (legacy) {
+            departmentId = hodDepartmentIndex.findDepartmentId(userInfo.getEmployeeId())
+                    .orElseThrow(() -> new SecurityException("You are not the HOD of this employee's department"));
+            if (!departmentMembershipCache.get(departmentId).contains(leaveRequest.getEmployeeId())) {
+                throw new SecurityException("You are not the HOD of this employee's department");
+            }
         }
-        
-        Department department = departmentRepository.findById(requestEmployee.getDepartmentId().longValue())
+
+        Department department = departmentRepository.findByIdForUpdate(departmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Department not found"));
 
+        // Authorised before anything about the department's other leaves is read
         if (!userInfo.getEmployeeId().equals(department.getHodEmployeeId())) {
             throw new SecurityException("You are not the HOD of this employee's department");
         }
+        if (legacy) {
+            leaveRequest.setDepartmentId(department.getId());
+        }
 
-        if ("approve".equalsIgnoreCase(approvalDto.getAction())) {
-            // Check for overlapping leaves before approving
-            List<String> departmentEmployeeIds = getDepartmentEmployeeIds(department.getId());
-            List<LeaveRequest> overlappingLeaves = leaveRequestRepository.findOverlappingLeaves(
-                    departmentEmployeeIds,
-                    leaveRequest.getStartDate(),
-                    leaveRequest.getEndDate(),
-                    leaveRequest.getId()
-            );
-
-            if (!overlappingLeaves.isEmpty()) {
+        if (approve) {
+            if (isOverlapping(department.getId(), leaveRequest)) {
                 throw new IllegalArgumentException(
                         "Cannot approve: Another employee in this department already has an approved or pending leave during this period");
             }
 
             leaveRequest.setStatus(LeaveRequest.Status.APPROVED);
             leaveRequest.setApprovedBy(userInfo.getEmployeeId());
-        } else if ("reject".equalsIgnoreCase(approvalDto.getAction())) {
+        } else {
             leaveRequest.setStatus(LeaveRequest.Status.REJECTED);
             leaveRequest.setApprovedBy(userInfo.getEmployeeId());
             leaveRequest.setRejectionReason(approvalDto.getRejectionReason());
-        } else {
-            throw new IllegalArgumentException("Action must be 'approve' or 'reject'");
         }
 
-        return leaveRequestRepository.save(leaveRequest);
+        LeaveRequest saved = leaveRequestRepository.save(leaveRequest);
+        leaveCalendarIndex.onSaved(saved);
+        leaveBalanceService.onDecided(saved);
+        return saved;
+    }
+
+    // Another approved or pending leave in the department during this request's period
+    private boolean isOverlapping(Long departmentId, LeaveRequest leaveRequest) {
+        return leaveCalendarIndex.overlaps(
+                departmentId, leaveRequest.getStartDate(), leaveRequest.getEndDate(), leaveRequest.getId())
+                || leaveRequestRepository.existsOverlappingLeave(
+                        departmentId,
+                        leaveRequest.getStartDate(),
+                        leaveRequest.getEndDate(),
+                        leaveRequest.getId()
+                );
+    }
+
+    // Approves/rejects many requests of the HOD's department in one transaction: one department lock,
+    // one membership fetch for legacy rows, one interval query for all approvals, and one batched
+    // flush of the updates. Failures are reported per item and do not roll back the others.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public LeaveBatchResult approveOrRejectBatch(LeaveBatchApprovalDto batch) {
+        UserInfo userInfo = getCurrentUser();
+        if (!"hod".equalsIgnoreCase(userInfo.getRole())) {
+            throw new SecurityException("Only HOD can approve or reject leave requests");
+        }
+
+        List<LeaveBatchApprovalDto.Item> items = batch.getItems();
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " leave requests can be processed at once");
+        }
+
+        Long departmentId = getHodDepartmentId();
+        Department department = departmentRepository.findByIdForUpdate(departmentId)
+                .orElseThrow(() -> new IllegalArgumentException("Department not found"));
+        // The index may predate a change of HOD; the locked row is authoritative
+        if (!userInfo.getEmployeeId().equals(department.getHodEmployeeId())) {
+            throw new SecurityException("You are not the HOD of this department");
+        }
+
+        Map<Long, LeaveRequest> requests = new HashMap<>();
+        for (LeaveRequest leaveRequest : leaveRequestRepository.findAllById(
+                items.stream().map(LeaveBatchApprovalDto.Item::getId).toList())) {
+            requests.put(leaveRequest.getId(), leaveRequest);
+        }
+
+        LeaveBatchResult.ItemResult[] results = new LeaveBatchResult.ItemResult[items.size()];
+        List<Integer> approvals = new ArrayList<>();
+        List<Integer> rejections = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        Set<Long> legacy = new HashSet<>();
+        DepartmentMembershipCache.Members members = null;
+
+        for (int i = 0; i < items.size(); i++) {
+            LeaveBatchApprovalDto.Item item = items.get(i);
+            LeaveRequest leaveRequest = requests.get(item.getId());
+            String error = null;
+            if (!seen.add(item.getId())) {
+                error = "Leave request appears more than once in the batch";
+            } else if (leaveRequest == null) {
+                error = "Leave request not found";
+            } else if (leaveRequest.getStatus() != LeaveRequest.Status.PENDING) {
+                error = "Leave request is not pending";
+            } else if (!"approve".equalsIgnoreCase(item.getAction()) && !"reject".equalsIgnoreCase(item.getAction())) {
+                error = "Action must be 'approve' or 'reject'";
+            } else if (leaveRequest.getDepartmentId() == null) {
+                // Requests created before department_id existed: one member list fetch covers them all
+                if (members == null) {
+                    members = departmentMembershipCache.get(department.getId());
+                }
+                if (members.contains(leaveRequest.getEmployeeId())) {
+                    leaveRequest.setDepartmentId(department.getId());
+                    legacy.add(leaveRequest.getId());
+                } else {
+                    error = "You are not the HOD of this employee's department";
+                }
+            } else if (!department.getId().equals(leaveRequest.getDepartmentId())) {
+                error = "You are not the HOD of this employee's department";
+            }
+
+            if (error != null) {
+                results[i] = LeaveBatchResult.ItemResult.failed(item.getId(), leaveRequest, error);
+            } else if ("approve".equalsIgnoreCase(item.getAction())) {
+                approvals.add(i);
+            } else {
+                rejections.add(i);
+            }
+        }
+
+        IntervalTree calendar = new IntervalTree();
+        Set<Long> inCalendar = new HashSet<>();
+        if (!approvals.isEmpty()) {
+            LocalDate from = null;
+            LocalDate to = null;
+            for (int i : approvals) {
+                LeaveRequest leaveRequest = requests.get(items.get(i).getId());
+                from = from == null || leaveRequest.getStartDate().isBefore(from) ? leaveRequest.getStartDate() : from;
+                to = to == null || leaveRequest.getEndDate().isAfter(to) ? leaveRequest.getEndDate() : to;
+            }
+            for (LeaveIntervalView leave : leaveRequestRepository.findActiveIntervalsInDepartment(department.getId(), from, to)) {
+                calendar.insert(leave.getId(), leave.getStartDate().toEpochDay(), leave.getEndDate().toEpochDay());
+                inCalendar.add(leave.getId());
+            }
+            // Legacy rows only got their department above, so the query could not see them
+            for (Long id : legacy) {
+                LeaveRequest leaveRequest = requests.get(id);
+                calendar.insert(id, leaveRequest.getStartDate().toEpochDay(), leaveRequest.getEndDate().toEpochDay());
+                inCalendar.add(id);
+            }
+        }
+
+        List<LeaveRequest> changed = new ArrayList<>();
+
+        // Rejections first so they no longer block approvals in the same batch
+        for (int i : rejections) {
+            LeaveBatchApprovalDto.Item item = items.get(i);
+            LeaveRequest leaveRequest = requests.get(item.getId());
+            leaveRequest.setStatus(LeaveRequest.Status.REJECTED);
+            leaveRequest.setApprovedBy(userInfo.getEmployeeId());
+            leaveRequest.setRejectionReason(item.getRejectionReason());
+            if (inCalendar.remove(leaveRequest.getId())) {
+                calendar.remove(leaveRequest.getId(), leaveRequest.getStartDate().toEpochDay());
+            }
+            changed.add(leaveRequest);
+            results[i] = LeaveBatchResult.ItemResult.ok(leaveRequest);
+        }
+
+        // Same rule as a single approval: no other pending or approved leave in the department may overlap
+        for (int i : approvals) {
+            LeaveRequest leaveRequest = requests.get(items.get(i).getId());
+            if (calendar.overlaps(leaveRequest.getStartDate().toEpochDay(), leaveRequest.getEndDate().toEpochDay(), leaveRequest.getId())) {
+                results[i] = LeaveBatchResult.ItemResult.failed(leaveRequest.getId(), leaveRequest,
+                        "Cannot approve: Another employee in this department already has an approved or pending leave during this period");
+                if (legacy.contains(leaveRequest.getId())) {
+                    changed.add(leaveRequest);
+                }
+                continue;
+            }
+            leaveRequest.setStatus(LeaveRequest.Status.APPROVED);
+            leaveRequest.setApprovedBy(userInfo.getEmployeeId());
+            changed.add(leaveRequest);
+            results[i] = LeaveBatchResult.ItemResult.ok(leaveRequest);
+        }
+
+        // Managed entities: the UPDATEs go out as JDBC batches at flush (hibernate.jdbc.batch_size)
+        leaveRequestRepository.saveAll(changed);
+        leaveCalendarIndex.onSaved(changed);
+        changed.forEach(leaveBalanceService::onDecided);
+
+        int succeeded = 0;
+        for (LeaveBatchResult.ItemResult result : results) {
+            if (result.isSuccess()) {
+                succeeded++;
+            }
+        }
+        return new LeaveBatchResult(succeeded, results.length - succeeded, List.of(results));
+    }
+
+    private Long getHodDepartmentId() {
+        UserInfo userInfo = getCurrentUser();
+        if (!"hod".equalsIgnoreCase(userInfo.getRole())) {
+            throw new SecurityException("Only HOD can view pending leave requests");
+        }
+
+        // Find department where this user is HOD. The index may be up to a minute stale, so the
+        // queries and locks that follow check departments.hod_employee_id again
+        return hodDepartmentIndex.findDepartmentId(userInfo.getEmployeeId())
+                .orElseThrow(() -> new IllegalArgumentException("No department found where you are HOD"));
     }
 
     private UserInfo getCurrentUser() {
@@ -188,14 +454,59 @@ public class LeaveRequestService {
         return (UserInfo) authentication.getPrincipal();
     }
 
-    private List<String> getDepartmentEmployeeIds(Long departmentId) {
-        UserInfo currentUser = getCurrentUser();
-        String token = getCurrentToken(); // We'll need to extract token from SecurityContext
-        
-        List<UserInfo> users = authServiceClient.getUsersByDepartment(departmentId, token);
-        return users.stream()
-                .map(UserInfo::getEmployeeId)
-                .collect(Collectors.toList());
+    // Overlap checks only see rows with a department_id, so legacy rows are filled as soon as the
+    // service is up rather than waiting for HR to call the backfill endpoint. While auth-service
+    // cannot be reached the departments done so far are kept and the rest are retried later; once
+    // a sweep has covered every department, whatever is left cannot be resolved and is not retried.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void backfillDepartmentIdsIfNeeded() {
+        if (legacyRowsSwept || !leaveRequestRepository.existsByDepartmentIdIsNull()) {
+            return;
+        }
+        try {
+            backfillDepartmentIds();
+        } catch (AuthServiceUnavailableException e) {
+            log.warn("Department backfill paused, auth-service unavailable: {}", e.getMessage());
+        }
+    }
+
+    // Fills department_id on requests created before the column existed. Not one transaction: each
+    // department's members are fetched with no transaction open, then its rows are updated and
+    // committed under its own lock, so leave writes elsewhere are never blocked by the sweep.
+    public int backfillDepartmentIds() {
+        int updated = 0;
+        for (Department department : departmentRepository.findAll(Sort.by("id"))) {
+            List<String> employeeIds = departmentMembershipCache.get(department.getId()).asList();
+            if (!employeeIds.isEmpty()) {
+                updated += transactionTemplate.execute(status -> assignDepartment(department.getId(), employeeIds));
+            }
+        }
+
+        // Every department was fetched, and new rows always get a department, so the rest are
+        // requests of employees auth-service no longer places in any department
+        long unresolved = leaveRequestRepository.countByDepartmentIdIsNull();
+        if (unresolved > 0) {
+            log.warn("{} leave requests match no department and keep department_id NULL, e.g. ids {}", unresolved,
+                    leaveRequestRepository.findIdsByDepartmentIdIsNull(PageRequest.of(0, 20)));
+        }
+        legacyRowsSwept = true;
+        if (updated > 0) {
+            leaveCalendarIndex.rebuild();
+        }
+        return updated;
+    }
+
+    private int assignDepartment(Long departmentId, List<String> employeeIds) {
+        // Same lock as leave writes, so an assigned row cannot slip past a concurrent overlap check
+        departmentRepository.findByIdForUpdate(departmentId);
+        LocalDateTime now = LocalDateTime.now();
+        int assigned = 0;
+        for (int from = 0; from < employeeIds.size(); from += MAX_IN_LIST_SIZE) {
+            List<String> chunk = employeeIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, employeeIds.size()));
+            assigned += leaveRequestRepository.assignDepartment(departmentId, chunk, now);
+        }
+        return assigned;
     }
 
     private Integer getUserDepartmentId(String employeeId) {
@@ -209,14 +520,5 @@ public class LeaveRequestService {
         // For now, return null and handle in calling code
         return null;
     }
-
-    private String getCurrentToken() {
-        org.springframework.security.core.Authentication authentication = 
-                org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getCredentials() instanceof String) {
-            return (String) authentication.getCredentials();
-        }
-        return com.hrservice.hrservice.security.JwtAuthenticationFilter.getCurrentToken();
-    }
 }
 
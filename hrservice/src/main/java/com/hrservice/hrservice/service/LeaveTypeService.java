@@ -1,9 +1,13 @@
 package com.hrservice.hrservice.service;
 
+import com.hrservice.hrservice.config.CacheConfig;
+import com.hrservice.hrservice.dto.ResourceVersion;
 import com.hrservice.hrservice.dto.LeaveTypeDto;
 import com.hrservice.hrservice.entity.LeaveType;
 import com.hrservice.hrservice.repository.LeaveTypeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,15 +20,25 @@ public class LeaveTypeService {
 
     private final LeaveTypeRepository leaveTypeRepository;
 
+    @Cacheable(cacheNames = CacheConfig.LEAVE_TYPES, key = "'all'")
     public List<LeaveType> findAll() {
         return leaveTypeRepository.findAll();
     }
 
+    // Part of every leave request ETag, whose views read type names straight from the database. Kept
+    // only briefly, so a rename committed on another instance reaches the ETags within seconds.
+    @Cacheable(cacheNames = CacheConfig.REFERENCE_VERSIONS, key = "'leaveTypes'")
+    public ResourceVersion currentVersion() {
+        return leaveTypeRepository.findVersion();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.LEAVE_TYPES, key = "#id", unless = "#result == null")
     public Optional<LeaveType> findById(Long id) {
         return leaveTypeRepository.findById(id);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.LEAVE_TYPES, CacheConfig.REFERENCE_VERSIONS}, allEntries = true)
     public LeaveType create(LeaveTypeDto leaveTypeDto) {
         if (leaveTypeRepository.findByName(leaveTypeDto.getName()).isPresent()) {
             throw new IllegalArgumentException("Leave type with name " + leaveTypeDto.getName() + " already exists");
@@ -40,6 +54,7 @@ public class LeaveTypeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.LEAVE_TYPES, CacheConfig.REFERENCE_VERSIONS}, allEntries = true)
     public LeaveType update(Long id, LeaveTypeDto leaveTypeDto) {
         LeaveType leaveType = leaveTypeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Leave type not found with id: " + id));
@@ -67,6 +82,7 @@ public class LeaveTypeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.LEAVE_TYPES, CacheConfig.REFERENCE_VERSIONS}, allEntries = true)
     public void delete(Long id) {
         if (!leaveTypeRepository.existsById(id)) {
             throw new IllegalArgumentException("Leave type not found with id: " + id);
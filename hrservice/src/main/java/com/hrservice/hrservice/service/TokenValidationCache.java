@@ -0,0 +1,157 @@
+package com.hrservice.hrservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hrservice.hrservice.config.AuthServiceConfig;
+import com.hrservice.hrservice.dto.UserInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class TokenValidationCache {
+
+    private final AsyncCache<String, CachedUser> cache;
+    private final ObjectMapper objectMapper;
+    private final long maxTtlNanos;
+    // Bumped by every invalidation; a load that started before one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public TokenValidationCache(AuthServiceConfig authServiceConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        AuthServiceConfig.TokenCache config = authServiceConfig.getTokenCache();
+        this.objectMapper = objectMapper;
+        this.maxTtlNanos = config.getTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .buildAsync();
+        // Same tag keys as the Spring-managed caches' cache.* meters, which Prometheus requires
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.token", Tags.of("cache.manager", "authService", "name", "auth.token"));
+    }
+
+    // Concurrent callers with the same token share a single load; null results are not cached.
+    // The first caller loads on its own thread after publishing a future, instead of inside
+    // Cache.get's compute, so the remote call never holds a map lock (which would also pin a
+    // virtual thread to its carrier).
+    public UserInfo get(String token, Function<String, UserInfo> loader) {
+        String key = hash(token);
+        CompletableFuture<CachedUser> existing = cache.getIfPresent(key);
+        if (existing == null) {
+            CompletableFuture<CachedUser> loading = new CompletableFuture<>();
+            existing = cache.asMap().putIfAbsent(key, loading);
+            if (existing == null) {
+                long startedAt = generation.get();
+                CachedUser cached;
+                try {
+                    cached = load(token, loader);
+                } catch (Throwable e) {
+                    // Errors too, or every later caller would block on join() forever
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+                if (generation.get() != startedAt) {
+                    // Invalidated while loading: answer this round of callers, but do not keep it
+                    cache.asMap().remove(key, loading);
+                }
+                // Completing with null drops the entry
+                loading.complete(cached);
+                return cached != null ? cached.user() : null;
+            }
+        }
+        try {
+            CachedUser cached = existing.join();
+            return cached != null ? cached.user() : null;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidateEmployee(String employeeId) {
+        generation.incrementAndGet();
+        cache.synchronous().asMap().values().removeIf(cached -> employeeId.equals(cached.user().getEmployeeId()));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    private CachedUser load(String token, Function<String, UserInfo> loader) {
+        UserInfo userInfo = loader.apply(token);
+        if (userInfo == null || !Boolean.TRUE.equals(userInfo.getIsActive())) {
+            return null;
+        }
+        return new CachedUser(userInfo, ttlNanos(token));
+    }
+
+    private long ttlNanos(String token) {
+        long expiresAt = readExpiry(token);
+        if (expiresAt <= 0) {
+            return maxTtlNanos;
+        }
+        long remaining = Duration.ofSeconds(expiresAt - System.currentTimeMillis() / 1000).toNanos();
+        return Math.max(0, Math.min(maxTtlNanos, remaining));
+    }
+
+    // The signature was already checked by auth-service; we only need the exp claim
+    private long readExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return 0;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            return payload.path("exp").asLong(0);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedUser(UserInfo user, long ttlNanos) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedUser> {
+        @Override
+        public long expireAfterCreate(String key, CachedUser value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedUser value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedUser value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+-- Tables and columns as previously created by hibernate ddl-auto=update, for
+-- new databases. Existing databases are baselined at this version and skip
+-- this script, so they keep what Hibernate 6 generated, which differs in two
+-- column types: leave_requests.status is enum('PENDING','APPROVED','REJECTED')
+-- there and VARCHAR(20) here, and leave_types.requires_documentation is bit(1)
+-- there and BOOLEAN here. The entities read and write both the same way.
+
+CREATE TABLE IF NOT EXISTS departments (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    name            VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    hod_employee_id VARCHAR(255),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_departments_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS leave_types (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    name                   VARCHAR(255) NOT NULL,
+    description            VARCHAR(255),
+    max_days_per_year      INT,
+    requires_documentation BOOLEAN,
+    created_at             DATETIME(6),
+    updated_at             DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_leave_types_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS leave_requests (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    employee_id      VARCHAR(255) NOT NULL,
+    leave_type_id    BIGINT,
+    start_date       DATE         NOT NULL,
+    end_date         DATE         NOT NULL,
+    reason           VARCHAR(255),
+    status           VARCHAR(20),
+    approved_by      VARCHAR(255),
+    rejection_reason VARCHAR(255),
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_leave_requests_leave_type FOREIGN KEY (leave_type_id) REFERENCES leave_types (id)
+);
@@ -0,0 +1,12 @@
+-- HodDepartmentIndex misses and findFirstByHodEmployeeId
+CREATE INDEX idx_departments_hod_employee_id
+    ON departments (hod_employee_id);
+
+-- Overlap checks (employee_id IN (...) AND status IN (...) AND date range),
+-- findByEmployeeId and the paged pending queue for an HOD's department
+CREATE INDEX idx_leave_requests_employee_status_dates
+    ON leave_requests (employee_id, status, start_date, end_date);
+
+-- findByStatus and status-filtered scans ordered by start date
+CREATE INDEX idx_leave_requests_status_start
+    ON leave_requests (status, start_date);
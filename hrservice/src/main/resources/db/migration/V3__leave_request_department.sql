@@ -0,0 +1,11 @@
+-- Requester's department, recorded at creation so overlap checks no longer
+-- need the department's member list from auth-service.
+ALTER TABLE leave_requests ADD COLUMN department_id BIGINT;
+
+CREATE INDEX idx_leave_requests_department_status_dates
+    ON leave_requests (department_id, status, start_date, end_date);
+
+-- Department membership lives in auth-service, so existing rows cannot be
+-- backfilled in SQL. hrservice fills them automatically at startup (retried
+-- every 10 minutes while auth-service is unavailable); rows of employees no
+-- longer in any department are logged and left NULL.
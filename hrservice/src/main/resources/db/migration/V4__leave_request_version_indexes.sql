@@ -0,0 +1,7 @@
+-- Covering indexes for the COUNT/MAX(updated_at) version queries behind
+-- conditional GETs on /my-leaves and /pending, so a 304 is an index-only read.
+CREATE INDEX idx_leave_requests_employee_updated
+    ON leave_requests (employee_id, updated_at);
+
+CREATE INDEX idx_leave_requests_department_status_updated
+    ON leave_requests (department_id, status, updated_at);
@@ -0,0 +1,15 @@
+-- Per-employee, per-leave-type, per-year day counters, maintained incrementally by
+-- LeaveBalanceService. The table starts empty; it is built from leave_requests on
+-- the first startup after this migration (or POST /api/leave-balances/reconcile).
+CREATE TABLE IF NOT EXISTS leave_balances (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    employee_id   VARCHAR(255) NOT NULL,
+    leave_type_id BIGINT       NOT NULL,
+    leave_year    INT          NOT NULL,
+    pending_days  INT          NOT NULL DEFAULT 0,
+    approved_days INT          NOT NULL DEFAULT 0,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_leave_balances_employee_type_year UNIQUE (employee_id, leave_type_id, leave_year),
+    CONSTRAINT fk_leave_balances_leave_type FOREIGN KEY (leave_type_id) REFERENCES leave_types (id)
+);
@@ -0,0 +1,8 @@
+-- One row per job that must not run on two instances at once. A run holds its
+-- row with SELECT ... FOR UPDATE for the length of its transaction.
+CREATE TABLE IF NOT EXISTS job_locks (
+    name VARCHAR(64) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO job_locks (name) VALUES ('leave_balance_reconcile');
@@ -0,0 +1,115 @@
+package com.hrservice.hrservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntervalTreeTest {
+
+    @Test
+    void findsOverlapsOnClosedBounds() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1, 10, 20);
+
+        assertThat(tree.overlaps(20, 25, 0)).isTrue();
+        assertThat(tree.overlaps(5, 10, 0)).isTrue();
+        assertThat(tree.overlaps(12, 14, 0)).isTrue();
+        assertThat(tree.overlaps(5, 25, 0)).isTrue();
+        assertThat(tree.overlaps(21, 30, 0)).isFalse();
+        assertThat(tree.overlaps(1, 9, 0)).isFalse();
+    }
+
+    @Test
+    void ignoresTheExcludedInterval() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1, 10, 20);
+
+        assertThat(tree.overlaps(10, 20, 1)).isFalse();
+
+        tree.insert(2, 15, 15);
+        assertThat(tree.overlaps(10, 20, 1)).isTrue();
+    }
+
+    @Test
+    void removesByIdAndStart() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1, 10, 20);
+        tree.insert(2, 10, 12);
+        tree.insert(3, 30, 40);
+
+        tree.remove(1, 10);
+
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.overlaps(15, 20, 0)).isFalse();
+        assertThat(tree.overlaps(11, 11, 0)).isTrue();
+        assertThatThrownBy(() -> tree.remove(1, 10)).isInstanceOf(IllegalStateException.class);
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void staysBalancedForSortedInsertsAndRemovals() {
+        IntervalTree tree = new IntervalTree();
+        int count = 1 << 12;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i + 1, i, i);
+        }
+        // AVL height bound: 1.44 * log2(n + 2)
+        assertThat(tree.height()).isLessThanOrEqualTo(maxAvlHeight(count));
+
+        for (int i = 0; i < count / 2; i++) {
+            tree.remove(i + 1, i);
+        }
+        assertThat(tree.size()).isEqualTo(count / 2);
+        assertThat(tree.height()).isLessThanOrEqualTo(maxAvlHeight(count / 2));
+        assertThat(tree.overlaps(0, count / 2 - 1, 0)).isFalse();
+        assertThat(tree.overlaps(count / 2, count / 2, 0)).isTrue();
+    }
+
+    // Rotations must keep every node's max end correct, so random operations are checked against a list
+    @Test
+    void matchesALinearScanUnderRandomInsertsAndRemovals() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> intervals = new ArrayList<>();
+        long nextId = 1;
+
+        for (int step = 0; step < 20_000; step++) {
+            if (intervals.isEmpty() || random.nextInt(3) > 0) {
+                long start = random.nextInt(1_000);
+                long end = start + random.nextInt(30);
+                tree.insert(nextId, start, end);
+                intervals.add(new long[]{nextId++, start, end});
+            } else {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                tree.remove(removed[0], removed[1]);
+            }
+
+            long start = random.nextInt(1_050);
+            long end = start + random.nextInt(30);
+            long excludeId = intervals.isEmpty() ? 0 : intervals.get(random.nextInt(intervals.size()))[0];
+            assertThat(tree.overlaps(start, end, excludeId))
+                    .as("overlap of [%d, %d] excluding %d", start, end, excludeId)
+                    .isEqualTo(scan(intervals, start, end, excludeId));
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+        assertThat(tree.height()).isLessThanOrEqualTo(maxAvlHeight(intervals.size()));
+    }
+
+    private static boolean scan(List<long[]> intervals, long start, long end, long excludeId) {
+        for (long[] interval : intervals) {
+            if (interval[0] != excludeId && interval[1] <= end && interval[2] >= start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int maxAvlHeight(int size) {
+        return (int) Math.floor(1.44 * (Math.log(size + 2) / Math.log(2)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.entity.LeaveBalance;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import com.hrservice.hrservice.repository.LeaveBalanceRepository;
+import com.hrservice.hrservice.repository.LeaveRequestRepository;
+import com.hrservice.hrservice.repository.LeaveTypeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Reconciliation is serialised through the job_locks row, so runs on different instances cannot
+// both apply the same drift to the ledger
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveBalanceReconcileTest {
+
+    @Autowired
+    private LeaveBalanceService leaveBalanceService;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void appliesDriftOnce() {
+        LeaveRequest leaveRequest = leaveOutsideTheLedger();
+
+        assertThat(leaveBalanceService.reconcile()).isPresent();
+        assertThat(leaveBalanceService.reconcile()).contains(0);
+        assertThat(pendingDays(leaveRequest)).isEqualTo(3);
+    }
+
+    @Test
+    void skipsWhileAnotherRunHoldsTheLock() throws Exception {
+        LeaveRequest leaveRequest = leaveOutsideTheLedger();
+
+        ExecutorService otherInstance = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<?> holder = otherInstance.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT name FROM job_locks WHERE name = 'leave_balance_reconcile' FOR UPDATE", String.class);
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            locked.await();
+
+            assertThat(leaveBalanceService.reconcile()).isEmpty();
+            assertThat(pendingDays(leaveRequest)).isZero();
+
+            release.countDown();
+            holder.get();
+        } finally {
+            release.countDown();
+            otherInstance.shutdownNow();
+        }
+
+        assertThat(leaveBalanceService.reconcile()).isPresent();
+        assertThat(pendingDays(leaveRequest)).isEqualTo(3);
+    }
+
+    // Saved through the repository, so the ledger has not seen it
+    private LeaveRequest leaveOutsideTheLedger() {
+        LeaveType leaveType = new LeaveType();
+        leaveType.setName("Leave " + UUID.randomUUID());
+        leaveType = leaveTypeRepository.save(leaveType);
+
+        LeaveRequest leaveRequest = new LeaveRequest();
+        leaveRequest.setEmployeeId("EMP-" + UUID.randomUUID());
+        leaveRequest.setLeaveType(leaveType);
+        LocalDate start = LocalDate.of(LocalDate.now().getYear() + 1, 3, 2);
+        leaveRequest.setStartDate(start);
+        leaveRequest.setEndDate(start.plusDays(2));
+        leaveRequest.setStatus(LeaveRequest.Status.PENDING);
+        return leaveRequestRepository.save(leaveRequest);
+    }
+
+    private int pendingDays(LeaveRequest leaveRequest) {
+        return leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(
+                        leaveRequest.getEmployeeId(), leaveRequest.getLeaveType().getId(), leaveRequest.getStartDate().getYear())
+                .map(LeaveBalance::getPendingDays)
+                .orElse(0);
+    }
+}
@@ -0,0 +1,146 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.dto.CursorPage;
+import com.hrservice.hrservice.dto.LeaveRequestFilter;
+import com.hrservice.hrservice.dto.LeaveRequestView;
+import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.entity.Department;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import com.hrservice.hrservice.repository.DepartmentRepository;
+import com.hrservice.hrservice.repository.LeaveRequestRepository;
+import com.hrservice.hrservice.repository.LeaveTypeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Leave request reads build LeaveRequestView in the query, so a page costs one statement
+// however many rows and leave types it spans
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveRequestViewQueryTest {
+
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Department department;
+    private List<LeaveRequest> requests;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        department = new Department();
+        department.setName("Department " + UUID.randomUUID());
+        department.setHodEmployeeId("HOD-" + UUID.randomUUID());
+        department = departmentRepository.save(department);
+
+        // Several leave types, so lazily loaded types would show up as extra statements
+        List<LeaveType> leaveTypes = new ArrayList<>();
+        for (int n = 0; n < 4; n++) {
+            LeaveType leaveType = new LeaveType();
+            leaveType.setName("Leave " + UUID.randomUUID());
+            leaveTypes.add(leaveTypeRepository.save(leaveType));
+        }
+
+        List<LeaveRequest> seeded = new ArrayList<>();
+        LocalDate start = LocalDate.now().plusDays(30);
+        for (int n = 0; n < REQUESTS; n++) {
+            LeaveRequest leaveRequest = new LeaveRequest();
+            leaveRequest.setEmployeeId("EMP-" + department.getId() + "-" + n);
+            leaveRequest.setDepartmentId(department.getId());
+            leaveRequest.setLeaveType(leaveTypes.get(n % leaveTypes.size()));
+            leaveRequest.setStartDate(start.plusDays(2L * n));
+            leaveRequest.setEndDate(start.plusDays(2L * n));
+            leaveRequest.setStatus(LeaveRequest.Status.PENDING);
+            seeded.add(leaveRequest);
+        }
+        requests = leaveRequestRepository.saveAll(seeded);
+
+        UserInfo hod = new UserInfo();
+        hod.setEmployeeId(department.getHodEmployeeId());
+        hod.setRole("hod");
+        hod.setDepartmentId(department.getId().intValue());
+        hod.setIsActive(true);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(hod, null, List.of()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void listsAPageInOneStatement() {
+        statistics.clear();
+        CursorPage<LeaveRequestView> page = leaveRequestService.findPage(new LeaveRequestFilter(), requests.get(0).getId() - 1, REQUESTS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(page.getItems()).hasSize(REQUESTS);
+        assertThat(page.getItems()).allSatisfy(view -> assertThat(view.getLeaveTypeName()).isNotNull());
+    }
+
+    @Test
+    void listsPendingRequestsInOneStatement() {
+        // The first call resolves and remembers the HOD's department
+        leaveRequestService.findPendingForHod(0, REQUESTS);
+
+        statistics.clear();
+        List<LeaveRequestView> pending = leaveRequestService.findPendingForHod(0, REQUESTS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(pending).hasSize(REQUESTS);
+        assertThat(pending).allSatisfy(view -> assertThat(view.getLeaveTypeName()).isNotNull());
+    }
+
+    @Test
+    void listsNothingOnceTheHodWasReplacedElsewhere() {
+        leaveRequestService.findPendingForHod(0, REQUESTS);
+
+        // Saved through the repository, as another instance would: this instance's index still has the old HOD
+        department.setHodEmployeeId("HOD-" + UUID.randomUUID());
+        departmentRepository.save(department);
+
+        assertThat(leaveRequestService.findPendingForHod(0, REQUESTS)).isEmpty();
+        assertThat(leaveRequestService.pendingForHodVersion().getTag()).startsWith("0-");
+    }
+
+    @Test
+    void readsOneRequestInOneStatement() {
+        statistics.clear();
+        LeaveRequestView view = leaveRequestService.findById(requests.get(0).getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(view.getLeaveTypeName()).isNotNull();
+    }
+}
@@ -0,0 +1,144 @@
+package com.hrservice.hrservice.service;
+
+import com.hrservice.hrservice.dto.LeaveRequestDto;
+import com.hrservice.hrservice.dto.UserInfo;
+import com.hrservice.hrservice.entity.Department;
+import com.hrservice.hrservice.entity.LeaveRequest;
+import com.hrservice.hrservice.entity.LeaveType;
+import com.hrservice.hrservice.repository.DepartmentRepository;
+import com.hrservice.hrservice.repository.LeaveRequestRepository;
+import com.hrservice.hrservice.repository.LeaveTypeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveSubmissionConcurrencyTest {
+
+    private static final int SUBMITTERS = 8;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Test
+    void acceptsOnlyOneOfConcurrentOverlappingSubmissionsInADepartment() throws Exception {
+        Department department = department();
+        LeaveType leaveType = leaveType();
+        LocalDate start = LocalDate.now().plusDays(30);
+
+        // Every period contains start + SUBMITTERS, so any two of them overlap
+        List<Boolean> accepted = submitConcurrently(department, leaveType, n -> start.plusDays(n), n -> start.plusDays(SUBMITTERS + n));
+
+        assertThat(accepted).containsOnlyOnce(true);
+        assertThat(activeRequestsIn(department)).hasSize(1);
+    }
+
+    @Test
+    void acceptsConcurrentDisjointSubmissionsInADepartment() throws Exception {
+        Department department = department();
+        LeaveType leaveType = leaveType();
+        LocalDate start = LocalDate.now().plusDays(30);
+
+        List<Boolean> accepted = submitConcurrently(department, leaveType, n -> start.plusDays(2L * n), n -> start.plusDays(2L * n));
+
+        assertThat(accepted).containsOnly(true);
+        assertThat(activeRequestsIn(department)).hasSize(SUBMITTERS);
+    }
+
+    private List<Boolean> submitConcurrently(Department department, LeaveType leaveType,
+                                             IntFunction<LocalDate> startDate,
+                                             IntFunction<LocalDate> endDate) throws InterruptedException, ExecutionException {
+        ExecutorService pool = Executors.newFixedThreadPool(SUBMITTERS);
+        CountDownLatch ready = new CountDownLatch(SUBMITTERS);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int n = 0; n < SUBMITTERS; n++) {
+                LeaveRequestDto dto = new LeaveRequestDto();
+                dto.setLeaveTypeId(leaveType.getId());
+                dto.setStartDate(startDate.apply(n));
+                dto.setEndDate(endDate.apply(n));
+                UserInfo employee = employee(department, n);
+                Callable<Boolean> submit = () -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(employee, null, List.of()));
+                    ready.countDown();
+                    go.await();
+                    try {
+                        leaveRequestService.create(dto);
+                        return true;
+                    } catch (IllegalArgumentException e) {
+                        return false;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                };
+                results.add(pool.submit(submit));
+            }
+            ready.await();
+            go.countDown();
+            List<Boolean> accepted = new ArrayList<>();
+            for (Future<Boolean> result : results) {
+                accepted.add(result.get());
+            }
+            return accepted;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<LeaveRequest> activeRequestsIn(Department department) {
+        return leaveRequestRepository.findAll().stream()
+                .filter(leaveRequest -> department.getId().equals(leaveRequest.getDepartmentId()))
+                .filter(leaveRequest -> leaveRequest.getStatus() == LeaveRequest.Status.PENDING)
+                .toList();
+    }
+
+    private Department department() {
+        Department department = new Department();
+        department.setName("Department " + UUID.randomUUID());
+        return departmentRepository.save(department);
+    }
+
+    private LeaveType leaveType() {
+        LeaveType leaveType = new LeaveType();
+        leaveType.setName("Leave " + UUID.randomUUID());
+        return leaveTypeRepository.save(leaveType);
+    }
+
+    private static UserInfo employee(Department department, int n) {
+        UserInfo employee = new UserInfo();
+        employee.setEmployeeId("EMP-" + department.getId() + "-" + n);
+        employee.setRole("employee");
+        employee.setDepartmentId(department.getId().intValue());
+        employee.setIsActive(true);
+        return employee;
+    }
+}